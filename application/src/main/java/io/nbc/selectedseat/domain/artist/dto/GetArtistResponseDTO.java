@@ -1,12 +1,13 @@
 package io.nbc.selectedseat.domain.artist.dto;
 
 import io.nbc.selectedseat.domain.artist.model.Artist;
+import java.io.Serializable;
 
 public record GetArtistResponseDTO(
     Long artistId,
     String name,
     String profile
-) {
+) implements Serializable {
 
     public static GetArtistResponseDTO from(Artist artist) {
         return new GetArtistResponseDTO(
@@ -0,0 +1,36 @@
+package io.nbc.selectedseat.domain.artist.dto;
+
+import io.nbc.selectedseat.redis.serializer.BinaryCodec;
+import io.nbc.selectedseat.redis.serializer.BinaryInput;
+import io.nbc.selectedseat.redis.serializer.BinaryOutput;
+import org.springframework.stereotype.Component;
+
+@Component
+public class GetArtistResponseDTOCodec implements BinaryCodec<GetArtistResponseDTO> {
+
+    @Override
+    public int tag() {
+        return 20;
+    }
+
+    @Override
+    public Class<GetArtistResponseDTO> type() {
+        return GetArtistResponseDTO.class;
+    }
+
+    @Override
+    public void write(final BinaryOutput out, final GetArtistResponseDTO value) {
+        out.writeLong(value.artistId());
+        out.writeString(value.name());
+        out.writeString(value.profile());
+    }
+
+    @Override
+    public GetArtistResponseDTO read(final BinaryInput in) {
+        return new GetArtistResponseDTO(
+            in.readLong(),
+            in.readString(),
+            in.readString()
+        );
+    }
+}
@@ -1,9 +1,12 @@
 package io.nbc.selectedseat.domain.artist.service.command;
 
+import static io.nbc.selectedseat.redis.config.CacheConfig.ARTIST;
+
 import io.nbc.selectedseat.domain.artist.dto.CreateArtistRequestDTO;
 import io.nbc.selectedseat.domain.artist.model.Artist;
 import io.nbc.selectedseat.domain.artist.repository.ArtistRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +26,7 @@ public class ArtistWriter {
         return artistRepository.save(artist);
     }
 
+    @CacheEvict(cacheNames = ARTIST, key = "#artistId")
     public Long updateArtist(
         final Long artistId,
         final String name,
@@ -31,6 +35,7 @@ public class ArtistWriter {
         return artistRepository.update(artistId, name, profile);
     }
 
+    @CacheEvict(cacheNames = ARTIST, key = "#artistId")
     public void deleteArtist(final Long artistId) {
         artistRepository.delete(artistId);
     }
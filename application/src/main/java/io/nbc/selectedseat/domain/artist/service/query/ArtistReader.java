@@ -1,5 +1,7 @@
 package io.nbc.selectedseat.domain.artist.service.query;
 
+import static io.nbc.selectedseat.redis.config.CacheConfig.ARTIST;
+
 import io.nbc.selectedseat.domain.artist.dto.GetArtistResponseDTO;
 import io.nbc.selectedseat.domain.artist.model.Artist;
 import io.nbc.selectedseat.domain.artist.repository.ArtistRepository;
@@ -8,6 +10,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +25,7 @@ public class ArtistReader {
         return artistRepository.findArtistsByIdList(artistIds);
     }
 
+    @Cacheable(cacheNames = ARTIST, key = "#artistId")
     public GetArtistResponseDTO getArtist(final Long artistId) {
         Artist artist = getArtistById(artistId);
         return GetArtistResponseDTO.from(artist);
@@ -1,12 +1,13 @@
 package io.nbc.selectedseat.domain.concert.dto;
 
 import io.nbc.selectedseat.domain.concert.model.ConcertDate;
+import java.io.Serializable;
 import java.time.LocalDateTime;
 
 public record ConcertDateResponseDTO(
     Long concertDateId,
     LocalDateTime concertDate
-) {
+) implements Serializable {
     public static ConcertDateResponseDTO from(final ConcertDate concertDate) {
         return new ConcertDateResponseDTO(
             concertDate.getConcertDateId(),
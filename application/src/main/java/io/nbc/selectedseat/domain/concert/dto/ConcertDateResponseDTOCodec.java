@@ -0,0 +1,34 @@
+package io.nbc.selectedseat.domain.concert.dto;
+
+import io.nbc.selectedseat.redis.serializer.BinaryCodec;
+import io.nbc.selectedseat.redis.serializer.BinaryInput;
+import io.nbc.selectedseat.redis.serializer.BinaryOutput;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ConcertDateResponseDTOCodec implements BinaryCodec<ConcertDateResponseDTO> {
+
+    @Override
+    public int tag() {
+        return 17;
+    }
+
+    @Override
+    public Class<ConcertDateResponseDTO> type() {
+        return ConcertDateResponseDTO.class;
+    }
+
+    @Override
+    public void write(final BinaryOutput out, final ConcertDateResponseDTO value) {
+        out.writeLong(value.concertDateId());
+        out.writeDateTime(value.concertDate());
+    }
+
+    @Override
+    public ConcertDateResponseDTO read(final BinaryInput in) {
+        return new ConcertDateResponseDTO(
+            in.readLong(),
+            in.readDateTime()
+        );
+    }
+}
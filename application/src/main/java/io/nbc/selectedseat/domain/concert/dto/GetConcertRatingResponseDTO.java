@@ -1,11 +1,12 @@
 package io.nbc.selectedseat.domain.concert.dto;
 
 import io.nbc.selectedseat.domain.concert.model.ConcertRating;
+import java.io.Serializable;
 
 public record GetConcertRatingResponseDTO(
     Long ratingId,
     String rating
-) {
+) implements Serializable {
 
     public static GetConcertRatingResponseDTO from(final ConcertRating rating) {
         return new GetConcertRatingResponseDTO(
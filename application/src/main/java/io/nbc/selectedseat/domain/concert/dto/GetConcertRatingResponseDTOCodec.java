@@ -0,0 +1,34 @@
+package io.nbc.selectedseat.domain.concert.dto;
+
+import io.nbc.selectedseat.redis.serializer.BinaryCodec;
+import io.nbc.selectedseat.redis.serializer.BinaryInput;
+import io.nbc.selectedseat.redis.serializer.BinaryOutput;
+import org.springframework.stereotype.Component;
+
+@Component
+public class GetConcertRatingResponseDTOCodec implements BinaryCodec<GetConcertRatingResponseDTO> {
+
+    @Override
+    public int tag() {
+        return 18;
+    }
+
+    @Override
+    public Class<GetConcertRatingResponseDTO> type() {
+        return GetConcertRatingResponseDTO.class;
+    }
+
+    @Override
+    public void write(final BinaryOutput out, final GetConcertRatingResponseDTO value) {
+        out.writeLong(value.ratingId());
+        out.writeString(value.rating());
+    }
+
+    @Override
+    public GetConcertRatingResponseDTO read(final BinaryInput in) {
+        return new GetConcertRatingResponseDTO(
+            in.readLong(),
+            in.readString()
+        );
+    }
+}
@@ -1,6 +1,7 @@
 package io.nbc.selectedseat.domain.concert.dto;
 
 import io.nbc.selectedseat.domain.concert.model.Concert;
+import java.io.Serializable;
 import java.time.LocalDateTime;
 import org.springframework.format.annotation.DateTimeFormat;
 
@@ -16,7 +17,7 @@ public record GetConcertResponseDTO(
     String thumbnail,
     String hall,
     Long ticketAmount
-) {
+) implements Serializable {
 
     public static GetConcertResponseDTO from(Concert concert) {
         return new GetConcertResponseDTO(
@@ -0,0 +1,52 @@
+package io.nbc.selectedseat.domain.concert.dto;
+
+import io.nbc.selectedseat.redis.serializer.BinaryCodec;
+import io.nbc.selectedseat.redis.serializer.BinaryInput;
+import io.nbc.selectedseat.redis.serializer.BinaryOutput;
+import org.springframework.stereotype.Component;
+
+@Component
+public class GetConcertResponseDTOCodec implements BinaryCodec<GetConcertResponseDTO> {
+
+    @Override
+    public int tag() {
+        return 16;
+    }
+
+    @Override
+    public Class<GetConcertResponseDTO> type() {
+        return GetConcertResponseDTO.class;
+    }
+
+    @Override
+    public void write(final BinaryOutput out, final GetConcertResponseDTO value) {
+        out.writeLong(value.concertId());
+        out.writeLong(value.ratingId());
+        out.writeLong(value.stateId());
+        out.writeLong(value.regionId());
+        out.writeLong(value.categoryId());
+        out.writeString(value.name());
+        out.writeDateTime(value.startedAt());
+        out.writeDateTime(value.endedAt());
+        out.writeString(value.thumbnail());
+        out.writeString(value.hall());
+        out.writeLong(value.ticketAmount());
+    }
+
+    @Override
+    public GetConcertResponseDTO read(final BinaryInput in) {
+        return new GetConcertResponseDTO(
+            in.readLong(),
+            in.readLong(),
+            in.readLong(),
+            in.readLong(),
+            in.readLong(),
+            in.readString(),
+            in.readDateTime(),
+            in.readDateTime(),
+            in.readString(),
+            in.readString(),
+            in.readLong()
+        );
+    }
+}
@@ -1,10 +1,15 @@
 package io.nbc.selectedseat.domain.concert.service.command;
 
+import static io.nbc.selectedseat.redis.config.CacheConfig.CONCERT;
+import static io.nbc.selectedseat.redis.config.CacheConfig.CONCERT_DATES;
+
 import io.nbc.selectedseat.domain.concert.dto.ConcertInfo;
 import io.nbc.selectedseat.domain.concert.exception.ConcertExistException;
 import io.nbc.selectedseat.domain.concert.model.Concert;
 import io.nbc.selectedseat.domain.concert.repository.ConcertRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,6 +36,7 @@ public class ConcertWriter {
         );
     }
 
+    @CacheEvict(cacheNames = CONCERT, key = "#concertId")
     public Long updateConcert(final Long concertId, final ConcertInfo concertInfo) {
         Concert concert = validateConcert(concertId);
 
@@ -38,6 +44,10 @@ public class ConcertWriter {
         return concertRepository.update(concert).getConcertId();
     }
 
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CONCERT, key = "#concertId"),
+        @CacheEvict(cacheNames = CONCERT_DATES, key = "#concertId")
+    })
     public void deleteConcert(final Long concertId) {
         validateConcert(concertId);
 
@@ -1,5 +1,9 @@
 package io.nbc.selectedseat.domain.concert.service.query;
 
+import static io.nbc.selectedseat.redis.config.CacheConfig.CONCERT;
+import static io.nbc.selectedseat.redis.config.CacheConfig.CONCERT_DATES;
+import static io.nbc.selectedseat.redis.config.CacheConfig.CONCERT_RATING;
+
 import io.nbc.selectedseat.common.WebPage;
 import io.nbc.selectedseat.domain.concert.dto.ConcertDateResponseDTO;
 import io.nbc.selectedseat.domain.concert.dto.ConcertInfo;
@@ -22,6 +26,7 @@ import io.nbc.selectedseat.elasticsearch.domain.concert.mapper.ConcertSearchQuer
 import java.io.IOException;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -34,6 +39,7 @@ public class ConcertReader {
     private final ConcertRepository concertRepository;
     private final ConcertSearchQueryMapper concertSearchQueryMapper;
 
+    @Cacheable(cacheNames = CONCERT, key = "#concertId")
     public GetConcertResponseDTO getConcert(final Long concertId) {
         Concert concert = concertRepository.findById(concertId)
             .orElseThrow(() -> new ConcertExistException("해당 콘서트가 존재하지 않습니다"));
@@ -111,6 +117,7 @@ public class ConcertReader {
             .toList();
     }
 
+    @Cacheable(cacheNames = CONCERT_RATING, key = "#concertRatingId")
     public GetConcertRatingResponseDTO getConcertRating(
         final Long concertRatingId
     ) {
@@ -129,6 +136,7 @@ public class ConcertReader {
             .toList();
     }
 
+    @Cacheable(cacheNames = CONCERT_DATES, key = "#concertId")
     public List<ConcertDateResponseDTO> getConcertDates(final Long concertId) {
         return concertRepository.getConcertDates(concertId).stream()
             .map(ConcertDateResponseDTO::from)
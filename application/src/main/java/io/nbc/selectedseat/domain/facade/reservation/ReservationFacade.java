@@ -1,18 +1,28 @@
 package io.nbc.selectedseat.domain.facade.reservation;
 
+import static io.nbc.selectedseat.domain.reservation.service.exception.ReservationExceptionCode.SEAT_HELD;
+import static io.nbc.selectedseat.domain.reservation.service.exception.ReservationExceptionCode.SEAT_SOLD;
+
 import io.nbc.selectedseat.domain.concert.dto.ConcertDateResponseDTO;
 import io.nbc.selectedseat.domain.concert.dto.GetConcertResponseDTO;
 import io.nbc.selectedseat.domain.concert.service.query.ConcertReader;
 import io.nbc.selectedseat.domain.member.dto.MemberInfo;
 import io.nbc.selectedseat.domain.member.service.query.MemberReader;
+import io.nbc.selectedseat.domain.queue.service.command.AdmissionWriter;
+import io.nbc.selectedseat.domain.queue.service.command.BackendHealthWriter;
 import io.nbc.selectedseat.domain.reservation.dto.ReservationInfoDTO;
+import io.nbc.selectedseat.domain.reservation.model.ReservationState;
+import io.nbc.selectedseat.domain.reservation.service.command.ReservationStreamWriter;
 import io.nbc.selectedseat.domain.reservation.service.command.ReservationWriter;
+import io.nbc.selectedseat.domain.reservation.service.exception.CustomReservationException;
+import io.nbc.selectedseat.domain.reservation.service.exception.ReservationPendingException;
 import io.nbc.selectedseat.domain.reservation.service.query.ReservationReader;
 import io.nbc.selectedseat.domain.seat.command.SeatWriter;
 import io.nbc.selectedseat.domain.ticket.dto.TicketInfo;
 import io.nbc.selectedseat.domain.ticket.dto.TicketPriceInfo;
 import io.nbc.selectedseat.domain.ticket.service.query.TicketPriceReader;
 import io.nbc.selectedseat.domain.ticket.service.query.TicketReader;
+import io.nbc.selectedseat.redis.seathold.SeatClaim;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -20,7 +30,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Component
-@Transactional
 @RequiredArgsConstructor
 public class ReservationFacade {
 
@@ -29,42 +38,76 @@ public class ReservationFacade {
     private final TicketReader ticketReader;
     private final TicketPriceReader ticketPriceReader;
     private final ReservationWriter reservationWriter;
+    private final ReservationStreamWriter reservationStreamWriter;
     private final ReservationReader reservationReader;
     private final SeatWriter seatWriter;
+    private final AdmissionWriter admissionWriter;
+    private final BackendHealthWriter backendHealthWriter;
 
+    // not transactional: the seat is claimed in one Redis script, the insert runs in its own
+    // short transaction, and the claim is compensated if the insert fails
     public Long createReservation(
         final Long concertId,
         final Long memberId,
         final Long ticketId,
         final Long concertDateId
     ) {
-        TicketInfo ticket = ticketReader.getTicket(ticketId);
-        TicketPriceInfo priceInfo = ticketPriceReader.getTicketPriceByConcertAndRating(
-            concertId,
-            ticket.ticketRating()
-        );
+        admissionWriter.extendAdmission(memberId);
 
-        Long reservationId = reservationWriter.createReservation(
-            concertId,
-            memberId,
-            ticketId,
-            priceInfo.ticketPriceId()
-        );
+        final long startedAt = System.currentTimeMillis();
+        boolean backendFailed = false;
+        try {
+            TicketInfo ticket = ticketReader.getTicket(ticketId);
+            TicketPriceInfo priceInfo = ticketPriceReader.getTicketPriceByConcertAndRating(
+                concertId,
+                ticket.ticketRating()
+            );
 
-        seatWriter.selectedSeat(
-            concertId,
-            concertDateId,
-            ticketId,
-            ticket.ticketRating().name(),
-            ticket.ticketNumber()
-        );
+            claimSeat(concertId, concertDateId, ticket, memberId);
+
+            Long reservationId;
+            try {
+                reservationId = persistReservation(
+                    concertId,
+                    memberId,
+                    ticketId,
+                    priceInfo.ticketPriceId()
+                );
+            } catch (RuntimeException e) {
+                seatWriter.releaseSeat(
+                    concertId,
+                    concertDateId,
+                    ticketId,
+                    ticket.ticketRating().name(),
+                    memberId
+                );
+                throw e;
+            }
 
-        return reservationId;
+            return reservationId;
+        } catch (RuntimeException e) {
+            backendFailed = BackendHealthWriter.isBackendFailure(e);
+            throw e;
+        } finally {
+            backendHealthWriter.recordReservation(
+                System.currentTimeMillis() - startedAt, !backendFailed);
+        }
     }
 
+    @Transactional
+    public void deleteReservation(final Long reservationId) {
+        ReservationInfoDTO reservation = getPersistedReservation(reservationId);
+        TicketInfo ticket = ticketReader.getTicket(reservation.ticketId());
+
+        reservationWriter.deleteReservation(reservationId);
+        releaseSeat(reservation, ticket);
+    }
+
+    @Transactional
     public void createReservationDocument(
         final Long reservationId
     ) {
+        getPersistedReservation(reservationId);
         Long completedId = reservationWriter.completeReservation(reservationId);
 
         ReservationInfoDTO reservation = reservationReader.getReservation(
@@ -97,4 +140,99 @@ public class ReservationFacade {
             concertDate.concertDate()
         );
     }
+
+    private Long persistReservation(
+        final Long concertId,
+        final Long memberId,
+        final Long ticketId,
+        final Long ticketPriceId
+    ) {
+        if (reservationStreamWriter.isEnabled()) {
+            return reservationStreamWriter.appendReservation(
+                concertId, memberId, ticketId, ticketPriceId);
+        }
+
+        return reservationWriter.createReservation(
+            concertId, memberId, ticketId, ticketPriceId);
+    }
+
+    // in write-behind mode the id is handed out before the consumer inserts the row,
+    // so a reservation still on the stream is answered with a retry instead of not found
+    private ReservationInfoDTO getPersistedReservation(final Long reservationId) {
+        try {
+            return reservationReader.getReservation(reservationId);
+        } catch (CustomReservationException e) {
+            if (reservationStreamWriter.isPending(reservationId)) {
+                throw new ReservationPendingException();
+            }
+
+            throw e;
+        }
+    }
+
+    // the seat goes back only while the deleted reservation still owns it. A ticket completed by
+    // another reservation, or a hold that has moved to another member, is left alone. A completed
+    // reservation no longer holds the seat, so it re-takes the hold first, and only if it is free
+    private void releaseSeat(
+        final ReservationInfoDTO reservation,
+        final TicketInfo ticket
+    ) {
+        if (reservationReader.isCompletedTicket(ticket.ticketId())) {
+            return;
+        }
+
+        if (reservation.reservationState() == ReservationState.COMPLETED
+            && claim(reservation.concertId(), ticket.concertDateId(), ticket,
+            reservation.memberId(), true) != SeatClaim.CLAIMED) {
+            return;
+        }
+
+        seatWriter.releaseSeat(
+            reservation.concertId(),
+            ticket.concertDateId(),
+            ticket.ticketId(),
+            ticket.ticketRating().name(),
+            reservation.memberId()
+        );
+    }
+
+    // a taken seat without a live hold is either sold or left by an expired hold,
+    // and only the DB can tell which
+    private void claimSeat(
+        final Long concertId,
+        final Long concertDateId,
+        final TicketInfo ticket,
+        final Long memberId
+    ) {
+        SeatClaim claim = claim(concertId, concertDateId, ticket, memberId, false);
+        if (claim == SeatClaim.TAKEN) {
+            if (reservationReader.isCompletedTicket(ticket.ticketId())) {
+                throw new CustomReservationException(SEAT_SOLD);
+            }
+
+            claim = claim(concertId, concertDateId, ticket, memberId, true);
+        }
+
+        if (claim != SeatClaim.CLAIMED) {
+            throw new CustomReservationException(SEAT_HELD);
+        }
+    }
+
+    private SeatClaim claim(
+        final Long concertId,
+        final Long concertDateId,
+        final TicketInfo ticket,
+        final Long memberId,
+        final boolean force
+    ) {
+        return seatWriter.claimSeat(
+            concertId,
+            concertDateId,
+            ticket.ticketId(),
+            ticket.ticketRating().name(),
+            memberId,
+            ReservationWriter.SEAT_HOLD_LEASE,
+            force
+        );
+    }
 }
@@ -0,0 +1,24 @@
+package io.nbc.selectedseat.domain.queue.service.command;
+
+import static io.nbc.selectedseat.util.queue.AdmissionQueue.PROCEED_QUEUE;
+import static io.nbc.selectedseat.util.queue.AdmissionQueue.PROCEED_TTL;
+import static io.nbc.selectedseat.util.queue.AdmissionQueue.SEAT_QUEUE;
+
+import io.nbc.selectedseat.redis.service.RedisService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class AdmissionWriter {
+
+    private final RedisService redisService;
+
+    public boolean extendAdmission(final Long memberId) {
+        return redisService.extendExpiry(
+            PROCEED_QUEUE.formatted(SEAT_QUEUE),
+            memberId.toString(),
+            PROCEED_TTL
+        );
+    }
+}
@@ -0,0 +1,110 @@
+package io.nbc.selectedseat.domain.queue.service.command;
+
+import static io.nbc.selectedseat.util.queue.BackendHealthKeys.BACKEND_HEALTH;
+import static io.nbc.selectedseat.util.queue.BackendHealthKeys.FAILURES;
+import static io.nbc.selectedseat.util.queue.BackendHealthKeys.P99_MILLIS;
+import static io.nbc.selectedseat.util.queue.BackendHealthKeys.POOL_SATURATION;
+import static io.nbc.selectedseat.util.queue.BackendHealthKeys.PUBLISHED_AT;
+import static io.nbc.selectedseat.util.queue.BackendHealthKeys.REQUESTS;
+import static io.nbc.selectedseat.util.queue.BackendHealthKeys.field;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.nbc.selectedseat.redis.service.RedisService;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+
+// publishes reservation counts, p99 latency and pool saturation for the queue throttle. Every web
+// node writes its own fields of the shared hash, so the queue side sees all of them and sums them
+@Service
+@RequiredArgsConstructor
+public class BackendHealthWriter {
+
+    public static final Duration HEALTH_TTL = Duration.ofSeconds(10);
+
+    private static final String NODE = ManagementFactory.getRuntimeMXBean().getName();
+
+    private final RedisService redisService;
+    private final DataSource dataSource;
+    private final Queue<Long> latencies = new ConcurrentLinkedQueue<>();
+    private final AtomicLong failures = new AtomicLong();
+
+    public void recordReservation(
+        final long latencyMillis,
+        final boolean success
+    ) {
+        latencies.add(latencyMillis);
+        if (!success) {
+            failures.incrementAndGet();
+        }
+    }
+
+    // a held or sold seat is the expected answer under contention, not the backend failing,
+    // so only database and Redis errors and timeouts count against it
+    public static boolean isBackendFailure(final Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof DataIntegrityViolationException) {
+                return false;
+            }
+
+            if (cause instanceof DataAccessException
+                || cause instanceof TransactionException
+                || cause instanceof TimeoutException) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    public void publish() {
+        final List<Long> window = new ArrayList<>();
+        for (Long latency = latencies.poll(); latency != null; latency = latencies.poll()) {
+            window.add(latency);
+        }
+        final long failed = Math.min(failures.getAndSet(0), window.size());
+
+        redisService.setHash(BACKEND_HEALTH, Map.of(
+            field(NODE, REQUESTS), String.valueOf(window.size()),
+            field(NODE, FAILURES), String.valueOf(failed),
+            field(NODE, P99_MILLIS), String.valueOf(p99(window)),
+            field(NODE, POOL_SATURATION), String.valueOf(poolSaturation()),
+            field(NODE, PUBLISHED_AT), String.valueOf(System.currentTimeMillis())
+        ), HEALTH_TTL);
+    }
+
+    public static long p99(final List<Long> window) {
+        if (window.isEmpty()) {
+            return 0L;
+        }
+
+        Collections.sort(window);
+        return window.get((int) Math.ceil(window.size() * 0.99) - 1);
+    }
+
+    // threads waiting for a connection count as demand beyond the pool
+    private double poolSaturation() {
+        if (!(dataSource instanceof HikariDataSource hikari)
+            || hikari.getHikariPoolMXBean() == null) {
+            return 0.0;
+        }
+
+        final HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+        return (double) (pool.getActiveConnections() + pool.getThreadsAwaitingConnection())
+            / hikari.getMaximumPoolSize();
+    }
+}
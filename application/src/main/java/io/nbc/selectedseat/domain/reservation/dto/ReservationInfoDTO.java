@@ -1,6 +1,7 @@
 package io.nbc.selectedseat.domain.reservation.dto;
 
 import io.nbc.selectedseat.domain.reservation.model.Reservation;
+import io.nbc.selectedseat.domain.reservation.model.ReservationState;
 import java.time.LocalDateTime;
 import lombok.Builder;
 
@@ -11,6 +12,7 @@ public record ReservationInfoDTO(
     Long memberId,
     Long ticketId,
     Long ticketPriceId,
+    ReservationState reservationState,
     LocalDateTime reservedAt
 ) {
 
@@ -21,6 +23,7 @@ public record ReservationInfoDTO(
             .memberId(reservation.getMemberId())
             .ticketId(reservation.getTicketId())
             .ticketPriceId(reservation.getTicketPriceId())
+            .reservationState(reservation.getReservationState())
             .reservedAt(reservation.getReservedAt())
             .build();
     }
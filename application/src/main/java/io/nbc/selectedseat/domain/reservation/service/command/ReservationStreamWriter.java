@@ -0,0 +1,79 @@
+package io.nbc.selectedseat.domain.reservation.service.command;
+
+import io.nbc.selectedseat.domain.reservation.repository.ReservationRepository;
+import io.nbc.selectedseat.redis.service.RedisService;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+// write-behind mode: the reservation is confirmed once it is on the stream and a batch
+// consumer inserts it later. The id is issued here and doubles as the idempotency key.
+// Until the row exists the id is marked pending, so callers can answer with a retry
+@Service
+@RequiredArgsConstructor
+public class ReservationStreamWriter {
+
+    public static final String RESERVATION_STREAM = "reservation:stream";
+    public static final String RESERVATION_SEQUENCE = "reservation:sequence";
+    public static final String RESERVATION_PENDING = "reservation:pending:%s";
+    public static final Duration PENDING_TTL = Duration.ofMinutes(10);
+
+    private final RedisService redisService;
+    private final ReservationRepository reservationRepository;
+
+    @Value("${reservation.write-behind.enabled:false}")
+    private boolean enabled;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Long appendReservation(
+        final Long concertId,
+        final Long memberId,
+        final Long ticketId,
+        final Long ticketPriceId
+    ) {
+        Long reservationId = nextReservationId();
+        String pendingKey = RESERVATION_PENDING.formatted(reservationId);
+
+        // the marker goes first: the consumer deletes it on ack, and a marker written after a
+        // fast insert would keep answering retry for a row that already exists
+        redisService.set(pendingKey, memberId.toString(), PENDING_TTL);
+        try {
+            redisService.appendStream(RESERVATION_STREAM, Map.of(
+                "reservationId", reservationId.toString(),
+                "concertId", concertId.toString(),
+                "memberId", memberId.toString(),
+                "ticketId", ticketId.toString(),
+                "ticketPriceId", ticketPriceId.toString(),
+                "reservedAt", LocalDateTime.now().toString()
+            ));
+        } catch (RuntimeException e) {
+            redisService.delete(pendingKey);
+            throw e;
+        }
+
+        return reservationId;
+    }
+
+    public boolean isPending(final Long reservationId) {
+        return enabled
+            && redisService.get(RESERVATION_PENDING.formatted(reservationId)).isPresent();
+    }
+
+    // a lost sequence restarts above the ids MySQL holds at that moment, not at process start.
+    // Ids still on a lost stream can collide, and the consumer dead-letters those
+    private Long nextReservationId() {
+        Long reservationId = redisService.nextSequence(RESERVATION_SEQUENCE);
+        if (reservationId != null) {
+            return reservationId;
+        }
+
+        return redisService.nextSequence(RESERVATION_SEQUENCE,
+            reservationRepository.getLastReservationId());
+    }
+}
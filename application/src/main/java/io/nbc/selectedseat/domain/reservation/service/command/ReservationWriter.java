@@ -1,13 +1,20 @@
 package io.nbc.selectedseat.domain.reservation.service.command;
 
+import static io.nbc.selectedseat.domain.reservation.service.exception.ReservationExceptionCode.HOLD_EXPIRED;
+import static io.nbc.selectedseat.domain.reservation.service.exception.ReservationExceptionCode.SEAT_SOLD;
+
 import io.nbc.selectedseat.db.core.domain.reservation.exception.ReservationExistException;
 import io.nbc.selectedseat.domain.reservation.model.Reservation;
 import io.nbc.selectedseat.domain.reservation.model.ReservationState;
 import io.nbc.selectedseat.domain.reservation.repository.ReservationRepository;
+import io.nbc.selectedseat.domain.reservation.service.exception.CustomReservationException;
+import io.nbc.selectedseat.domain.seat.util.SeatKeyUtil;
 import io.nbc.selectedseat.domain.ticket.model.TicketRating;
-import io.nbc.selectedseat.redis.distributedlock.DistributedLock;
+import io.nbc.selectedseat.redis.seathold.SeatHoldManager;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,9 +23,12 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class ReservationWriter {
 
+    public static final Duration SEAT_HOLD_LEASE = Duration.ofMinutes(5);
+
     private final ReservationRepository reservationRepository;
+    private final SeatHoldManager seatHoldManager;
 
-    @DistributedLock(key = "'concert:' + #concertId + ':ticketId:' + #ticketId")
+    // the seat is claimed in Redis before this runs, so the insert is the only work in its transaction
     public Long createReservation(
         final Long concertId,
         final Long memberId,
@@ -41,10 +51,41 @@ public class ReservationWriter {
                 reservationId)
             .orElseThrow(ReservationExistException::new);
 
-        Reservation completed = reservation.complete();
-        return reservationRepository.createReservation(completed);
+        final String key = holdKey(reservation);
+        final String owner = reservation.getMemberId().toString();
+        if (!seatHoldManager.hold(key, owner, SEAT_HOLD_LEASE)) {
+            throw new CustomReservationException(HOLD_EXPIRED);
+        }
+
+        // an expired hold may have let another member buy the seat in the meantime
+        if (reservationRepository.isCompletedTicket(reservation.getTicketId())) {
+            seatHoldManager.release(key, owner);
+            throw new CustomReservationException(SEAT_SOLD);
+        }
+
+        Long completedId;
+        try {
+            completedId = reservationRepository.createReservation(reservation.complete());
+        } catch (DataIntegrityViolationException e) {
+            // the unique completed_ticket_id caught a concurrent completion
+            seatHoldManager.release(key, owner);
+            throw new CustomReservationException(SEAT_SOLD);
+        }
+
+        seatHoldManager.release(key, owner);
+        return completedId;
     }
 
+    public boolean extendHold(final Long reservationId) {
+        return reservationRepository.getReservation(reservationId)
+            .map(reservation -> seatHoldManager.extend(
+                holdKey(reservation),
+                reservation.getMemberId().toString(),
+                SEAT_HOLD_LEASE))
+            .orElse(false);
+    }
+
+    // the seat and its hold are released by the caller, and only while this reservation owns them
     public void deleteReservation(final Long reservationId) {
         reservationRepository.deleteReservation(reservationId);
     }
@@ -70,4 +111,8 @@ public class ReservationWriter {
             concertDate
         );
     }
+
+    private static String holdKey(final Reservation reservation) {
+        return SeatKeyUtil.generateHoldKey(reservation.getConcertId(), reservation.getTicketId());
+    }
 }
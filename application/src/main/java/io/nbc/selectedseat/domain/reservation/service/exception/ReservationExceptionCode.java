@@ -4,7 +4,11 @@ import lombok.Getter;
 
 @Getter
 public enum ReservationExceptionCode {
-    NOT_FOUND("잘못된 접근입니다");
+    NOT_FOUND("잘못된 접근입니다"),
+    SEAT_HELD("이미 선점된 좌석입니다"),
+    SEAT_SOLD("이미 예약된 좌석입니다"),
+    HOLD_EXPIRED("좌석 선점 시간이 만료되었습니다"),
+    PENDING("예약을 처리하고 있습니다. 잠시 후 다시 시도해주세요");
 
     private final String message;
 
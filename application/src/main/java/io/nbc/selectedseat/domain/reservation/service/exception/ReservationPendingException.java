@@ -0,0 +1,10 @@
+package io.nbc.selectedseat.domain.reservation.service.exception;
+
+import static io.nbc.selectedseat.domain.reservation.service.exception.ReservationExceptionCode.PENDING;
+
+public class ReservationPendingException extends CustomReservationException {
+
+    public ReservationPendingException() {
+        super(PENDING);
+    }
+}
@@ -32,6 +32,10 @@ public class ReservationReader {
         return ReservationInfoDTO.from(reservation);
     }
 
+    public boolean isCompletedTicket(final Long ticketId) {
+        return reservationRepository.isCompletedTicket(ticketId);
+    }
+
     public List<Reservation> getReservationByMemberId(final Long memberId) {
         return reservationRepository.getReservationByMemberId(memberId);
     }
@@ -1,32 +1,49 @@
 package io.nbc.selectedseat.domain.seat.command;
 
 import io.nbc.selectedseat.domain.seat.util.SeatKeyUtil;
-import io.nbc.selectedseat.redis.service.RedisService;
+import io.nbc.selectedseat.redis.seathold.SeatClaim;
+import io.nbc.selectedseat.redis.seathold.SeatHoldManager;
+import java.time.Duration;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
-@Transactional
 @RequiredArgsConstructor
 public class SeatWriter {
-    private final RedisService redisService;
 
-    public void selectedSeat(
+    private final SeatHoldManager seatHoldManager;
+
+    public SeatClaim claimSeat(
         final Long concertId,
         final Long concertDateId,
         final Long ticketId,
         final String ticketRating,
-        final String ticketNumber
+        final Long memberId,
+        final Duration lease,
+        final boolean force
     ) {
-        String key = SeatKeyUtil.generateKey(concertId, concertDateId, ticketRating);
-        redisService.selectedSeat(key, generateHashKey(ticketId, ticketNumber));
+        return seatHoldManager.claim(
+            SeatKeyUtil.generateHoldKey(concertId, ticketId),
+            memberId.toString(),
+            lease,
+            SeatKeyUtil.generateSeatMapKeys(concertId, concertDateId, ticketRating),
+            ticketId,
+            force
+        );
     }
 
-    private String generateHashKey(
+    public boolean releaseSeat(
+        final Long concertId,
+        final Long concertDateId,
         final Long ticketId,
-        final String ticketNumber
-    ){
-        return "ticketId:" + ticketId + ":ticketNumber:" + ticketNumber;
+        final String ticketRating,
+        final Long memberId
+    ) {
+        return seatHoldManager.releaseClaim(
+            SeatKeyUtil.generateHoldKey(concertId, ticketId),
+            memberId.toString(),
+            SeatKeyUtil.generateSeatMapKeys(concertId, concertDateId, ticketRating),
+            ticketId
+        );
     }
 }
@@ -0,0 +1,13 @@
+package io.nbc.selectedseat.domain.seat.dto;
+
+import io.nbc.selectedseat.redis.seatmap.SeatChange;
+
+public record SeatChangeInfo(
+    long index,
+    boolean taken
+) {
+
+    public static SeatChangeInfo from(final SeatChange seatChange) {
+        return new SeatChangeInfo(seatChange.index(), seatChange.taken());
+    }
+}
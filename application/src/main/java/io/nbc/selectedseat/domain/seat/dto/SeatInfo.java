@@ -1,10 +1,17 @@
 package io.nbc.selectedseat.domain.seat.dto;
 
-import java.util.Map;
+import java.util.List;
 
+// a full read carries seats, the base64 seat bitmap with bit i (most significant first) set
+// once seat i is taken. A delta read carries only the changes after the client's version
 public record SeatInfo(
     String key,
-    Map<Object, Object> seats
+    long version,
+    String seats,
+    List<SeatChangeInfo> changes
 ) {
 
+    public boolean isUnchanged() {
+        return changes != null && changes.isEmpty();
+    }
 }
@@ -0,0 +1,11 @@
+package io.nbc.selectedseat.domain.seat.dto;
+
+import java.util.List;
+
+// entry i is "ticketId:X:ticketNumber:N" for seat i of the seat bitmap
+public record SeatLayoutInfo(
+    String key,
+    List<String> seats
+) {
+
+}
@@ -1,10 +1,17 @@
 package io.nbc.selectedseat.domain.seat.query;
 
+import io.nbc.selectedseat.domain.seat.dto.SeatChangeInfo;
 import io.nbc.selectedseat.domain.seat.dto.SeatInfo;
+import io.nbc.selectedseat.domain.seat.dto.SeatLayoutInfo;
 import io.nbc.selectedseat.domain.seat.util.SeatKeyUtil;
+import io.nbc.selectedseat.redis.seatmap.SeatChanges;
+import io.nbc.selectedseat.redis.seatmap.SeatMapCache;
+import io.nbc.selectedseat.redis.seatmap.SeatMapKeys;
+import io.nbc.selectedseat.redis.seatmap.SeatMapSnapshot;
 import io.nbc.selectedseat.redis.service.RedisService;
-import java.util.Map;
-import java.util.TreeMap;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -14,14 +21,50 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class SeatReader {
     private final RedisService redisService;
+    private final SeatMapCache seatMapCache;
 
     public SeatInfo getTicketsByConcertAndRating(
         final Long concertId,
         final Long concertDateId,
         final String ticketRating
     ) {
-        String key = SeatKeyUtil.generateKey(concertId, concertDateId, ticketRating);
-        Map<Object, Object> seats = redisService.getSeats(key);
-        return new SeatInfo(key, seats);
+        SeatMapKeys keys = SeatKeyUtil.generateSeatMapKeys(concertId, concertDateId, ticketRating);
+
+        SeatMapSnapshot snapshot = seatMapCache.get(keys);
+        return new SeatInfo(keys.seatMap(), snapshot.version(),
+            Base64.getEncoder().encodeToString(snapshot.seatMap()), null);
+    }
+
+    // falls back to a full read when the change log no longer covers the client's version
+    public SeatInfo getTicketsByConcertAndRating(
+        final Long concertId,
+        final Long concertDateId,
+        final String ticketRating,
+        final long since
+    ) {
+        SeatMapKeys keys = SeatKeyUtil.generateSeatMapKeys(concertId, concertDateId, ticketRating);
+        if (seatMapCache.get(keys).version() == since) {
+            return new SeatInfo(keys.seatMap(), since, null, List.of());
+        }
+
+        Optional<SeatChanges> seatChanges = redisService.getSeatChanges(keys, since);
+        if (seatChanges.isEmpty()) {
+            return getTicketsByConcertAndRating(concertId, concertDateId, ticketRating);
+        }
+
+        List<SeatChangeInfo> changes = seatChanges.get().changes().stream()
+            .map(SeatChangeInfo::from)
+            .toList();
+        return new SeatInfo(keys.seatMap(), seatChanges.get().version(), null, changes);
+    }
+
+    public SeatLayoutInfo getSeatLayout(
+        final Long concertId,
+        final Long concertDateId,
+        final String ticketRating
+    ) {
+        SeatMapKeys keys = SeatKeyUtil.generateSeatMapKeys(concertId, concertDateId, ticketRating);
+        List<String> seats = redisService.getSeatLayout(keys.layout());
+        return new SeatLayoutInfo(keys.layout(), seats);
     }
 }
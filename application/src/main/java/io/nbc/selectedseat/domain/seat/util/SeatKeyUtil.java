@@ -1,12 +1,47 @@
 package io.nbc.selectedseat.domain.seat.util;
 
+import io.nbc.selectedseat.redis.seatmap.SeatMapKeys;
+import io.nbc.selectedseat.util.seat.SeatChannel;
+
+// one seat map per (concert, date, rating): a bitmap with bit i set once seat i is taken,
+// a layout list whose entry i names seat i, an index from ticketId to i, and the version
+// and change log that let clients fetch only the bits flipped since their last read
 public class SeatKeyUtil {
-    public static String generateKey(
+    public static SeatMapKeys generateSeatMapKeys(
+        final Long concertId,
+        final Long concertDateId,
+        final String ticketRating
+    ) {
+        String suffix = generateSuffix(concertId, concertDateId, ticketRating);
+        return new SeatMapKeys(
+            "seatMap:" + suffix,
+            "seatLayout:" + suffix,
+            "seatIndex:" + suffix,
+            "seatVersion:" + suffix,
+            SeatChannel.SEAT_CHANNEL.formatted(concertId, concertDateId, ticketRating)
+        );
+    }
+
+    public static String generateHashKey(
+        final Long ticketId,
+        final String ticketNumber
+    ) {
+        return "ticketId:" + ticketId + ":ticketNumber:" + ticketNumber;
+    }
+
+    public static String generateHoldKey(
+        final Long concertId,
+        final Long ticketId
+    ) {
+        return "concert:" + concertId + ":ticketId:" + ticketId;
+    }
+
+    private static String generateSuffix(
         final Long concertId,
         final Long concertDateId,
         final String ticketRating
     ) {
-        return "seatKey:concertId:" + concertId
+        return "concertId:" + concertId
             + ":concertDate:" + concertDateId
             + ":ticketRating:" + ticketRating;
     }
@@ -2,13 +2,14 @@ package io.nbc.selectedseat.domain.ticket.dto;
 
 import io.nbc.selectedseat.domain.ticket.model.TicketPrice;
 import io.nbc.selectedseat.domain.ticket.model.TicketRating;
+import java.io.Serializable;
 
 public record TicketPriceInfo(
     Long ticketPriceId,
     Long concertId,
     TicketRating ticketRating,
     Long price
-) {
+) implements Serializable {
 
     public static TicketPriceInfo from(final TicketPrice ticketPrice) {
         return new TicketPriceInfo(
@@ -0,0 +1,39 @@
+package io.nbc.selectedseat.domain.ticket.dto;
+
+import io.nbc.selectedseat.domain.ticket.model.TicketRating;
+import io.nbc.selectedseat.redis.serializer.BinaryCodec;
+import io.nbc.selectedseat.redis.serializer.BinaryInput;
+import io.nbc.selectedseat.redis.serializer.BinaryOutput;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TicketPriceInfoCodec implements BinaryCodec<TicketPriceInfo> {
+
+    @Override
+    public int tag() {
+        return 19;
+    }
+
+    @Override
+    public Class<TicketPriceInfo> type() {
+        return TicketPriceInfo.class;
+    }
+
+    @Override
+    public void write(final BinaryOutput out, final TicketPriceInfo value) {
+        out.writeLong(value.ticketPriceId());
+        out.writeLong(value.concertId());
+        out.writeEnum(value.ticketRating());
+        out.writeLong(value.price());
+    }
+
+    @Override
+    public TicketPriceInfo read(final BinaryInput in) {
+        return new TicketPriceInfo(
+            in.readLong(),
+            in.readLong(),
+            in.readEnum(TicketRating.class),
+            in.readLong()
+        );
+    }
+}
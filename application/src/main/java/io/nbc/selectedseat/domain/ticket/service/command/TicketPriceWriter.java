@@ -1,5 +1,7 @@
 package io.nbc.selectedseat.domain.ticket.service.command;
 
+import static io.nbc.selectedseat.redis.config.CacheConfig.TICKET_PRICE;
+
 import io.nbc.selectedseat.domain.ticket.dto.TicketPriceInfo;
 import io.nbc.selectedseat.domain.ticket.model.TicketPrice;
 import io.nbc.selectedseat.domain.ticket.model.TicketRating;
@@ -8,6 +10,7 @@ import io.nbc.selectedseat.domain.ticket.service.exception.ExistTicketPriceExcep
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -39,15 +42,20 @@ public class TicketPriceWriter {
         return TicketPriceInfo.from(ticketPrice);
     }
 
+    @CacheEvict(cacheNames = TICKET_PRICE,
+        key = "#result.concertId() + ':' + #result.ticketRating()")
     public TicketPriceInfo updateTicketPrice(final Long ticketId, final Long changePrice) {
         findTicketPriceById(ticketId);
         TicketPrice ticketPrice = ticketPriceRepository.updateTicketPrice(ticketId, changePrice);
         return TicketPriceInfo.from(ticketPrice);
     }
 
-    public void deleteTicketPrice(final Long ticketId) {
-        findTicketPriceById(ticketId);
+    @CacheEvict(cacheNames = TICKET_PRICE,
+        key = "#result.concertId() + ':' + #result.ticketRating()")
+    public TicketPriceInfo deleteTicketPrice(final Long ticketId) {
+        TicketPrice ticketPrice = findTicketPriceById(ticketId);
         ticketPriceRepository.deleteTicketPrice(ticketId);
+        return TicketPriceInfo.from(ticketPrice);
     }
 
     public TicketPrice findTicketPriceById(final Long ticketId) {
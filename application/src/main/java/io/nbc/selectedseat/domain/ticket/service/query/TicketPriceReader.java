@@ -1,5 +1,7 @@
 package io.nbc.selectedseat.domain.ticket.service.query;
 
+import static io.nbc.selectedseat.redis.config.CacheConfig.TICKET_PRICE;
+
 import io.nbc.selectedseat.domain.ticket.dto.TicketPriceInfo;
 import io.nbc.selectedseat.domain.ticket.model.TicketPrice;
 import io.nbc.selectedseat.domain.ticket.model.TicketRating;
@@ -7,6 +9,7 @@ import io.nbc.selectedseat.domain.ticket.repository.TicketPriceRepository;
 import java.util.List;
 import java.util.NoSuchElementException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,6 +30,7 @@ public class TicketPriceReader {
         return ticketPriceRepository.getTicketPricesByIds(ticketIds);
     }
 
+    @Cacheable(cacheNames = TICKET_PRICE, key = "#concertId + ':' + #rating")
     public TicketPriceInfo getTicketPriceByConcertAndRating(
         final Long concertId,
         final TicketRating rating
@@ -0,0 +1,32 @@
+package io.nbc.selectedseat.domain.artist.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.nbc.selectedseat.redis.serializer.BinaryInput;
+import io.nbc.selectedseat.redis.serializer.BinaryOutput;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class GetArtistResponseDTOCodecTest {
+
+    private final GetArtistResponseDTOCodec codec = new GetArtistResponseDTOCodec();
+
+    @Test
+    @DisplayName("아티스트 정보는 null 필드까지 그대로 복원된다")
+    void when_round_trip_artist_then_restore_all_fields() {
+        //given
+        GetArtistResponseDTO artist = new GetArtistResponseDTO(1L, "아이유", "profile.png");
+        GetArtistResponseDTO empty = new GetArtistResponseDTO(null, "", null);
+
+        //when-then
+        assertThat(roundTrip(artist)).isEqualTo(artist);
+        assertThat(roundTrip(empty)).isEqualTo(empty);
+        assertThat(codec.tag()).isEqualTo(20);
+    }
+
+    private GetArtistResponseDTO roundTrip(final GetArtistResponseDTO value) {
+        BinaryOutput out = new BinaryOutput(16);
+        codec.write(out, value);
+        return codec.read(new BinaryInput(out.toByteArray()));
+    }
+}
@@ -0,0 +1,76 @@
+package io.nbc.selectedseat.domain.concert.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.nbc.selectedseat.redis.serializer.BinaryCodec;
+import io.nbc.selectedseat.redis.serializer.BinaryInput;
+import io.nbc.selectedseat.redis.serializer.BinaryOutput;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class ConcertCodecTest {
+
+    @Test
+    @DisplayName("공연 정보는 모든 필드가 그대로 복원된다")
+    void when_round_trip_concert_then_restore_all_fields() {
+        //given
+        GetConcertResponseDTO concert = new GetConcertResponseDTO(1024L, 3L, 1L, 12L, 5L,
+            "Selected Seat Live", LocalDateTime.of(2024, 8, 15, 19, 0, 0, 123_000_000),
+            LocalDateTime.of(2024, 8, 15, 22, 0), "https://cdn.example.com/1024.png",
+            "KSPO DOME", 15000L);
+
+        //when
+        GetConcertResponseDTO restored = roundTrip(new GetConcertResponseDTOCodec(), concert);
+
+        //then
+        assertThat(restored).isEqualTo(concert);
+    }
+
+    @Test
+    @DisplayName("공연 정보의 비어 있는 필드는 null로 복원된다")
+    void when_round_trip_concert_with_nulls_then_restore_nulls() {
+        //given
+        GetConcertResponseDTO concert = new GetConcertResponseDTO(null, null, null, null, null,
+            null, null, null, null, "", null);
+
+        //when
+        GetConcertResponseDTO restored = roundTrip(new GetConcertResponseDTOCodec(), concert);
+
+        //then
+        assertThat(restored).isEqualTo(concert);
+    }
+
+    @Test
+    @DisplayName("공연 일정과 등급은 null 필드까지 그대로 복원된다")
+    void when_round_trip_concert_date_and_rating_then_restore_all_fields() {
+        //given
+        ConcertDateResponseDTO date = new ConcertDateResponseDTO(7L,
+            LocalDateTime.of(2024, 8, 15, 19, 0));
+        ConcertDateResponseDTO emptyDate = new ConcertDateResponseDTO(null, null);
+        GetConcertRatingResponseDTO rating = new GetConcertRatingResponseDTO(2L, "15세 이상");
+        GetConcertRatingResponseDTO emptyRating = new GetConcertRatingResponseDTO(null, null);
+
+        //when-then
+        assertThat(roundTrip(new ConcertDateResponseDTOCodec(), date)).isEqualTo(date);
+        assertThat(roundTrip(new ConcertDateResponseDTOCodec(), emptyDate)).isEqualTo(emptyDate);
+        assertThat(roundTrip(new GetConcertRatingResponseDTOCodec(), rating)).isEqualTo(rating);
+        assertThat(roundTrip(new GetConcertRatingResponseDTOCodec(), emptyRating))
+            .isEqualTo(emptyRating);
+    }
+
+    @Test
+    @DisplayName("공연 코덱의 태그는 바뀌지 않는다")
+    void when_get_tags_then_keep_stored_values() {
+        //when-then
+        assertThat(new GetConcertResponseDTOCodec().tag()).isEqualTo(16);
+        assertThat(new ConcertDateResponseDTOCodec().tag()).isEqualTo(17);
+        assertThat(new GetConcertRatingResponseDTOCodec().tag()).isEqualTo(18);
+    }
+
+    private static <T> T roundTrip(final BinaryCodec<T> codec, final T value) {
+        BinaryOutput out = new BinaryOutput(16);
+        codec.write(out, value);
+        return codec.read(new BinaryInput(out.toByteArray()));
+    }
+}
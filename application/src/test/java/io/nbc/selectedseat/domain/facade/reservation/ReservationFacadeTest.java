@@ -0,0 +1,213 @@
+package io.nbc.selectedseat.domain.facade.reservation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+import io.nbc.selectedseat.domain.concert.service.query.ConcertReader;
+import io.nbc.selectedseat.domain.member.service.query.MemberReader;
+import io.nbc.selectedseat.domain.queue.service.command.AdmissionWriter;
+import io.nbc.selectedseat.domain.queue.service.command.BackendHealthWriter;
+import io.nbc.selectedseat.domain.reservation.mock.FakeReservationRepository;
+import io.nbc.selectedseat.domain.reservation.mock.FakeSeatHoldManager;
+import io.nbc.selectedseat.domain.reservation.model.Reservation;
+import io.nbc.selectedseat.domain.reservation.model.ReservationState;
+import io.nbc.selectedseat.domain.reservation.service.command.ReservationStreamWriter;
+import io.nbc.selectedseat.domain.reservation.service.command.ReservationWriter;
+import io.nbc.selectedseat.domain.reservation.service.exception.CustomReservationException;
+import io.nbc.selectedseat.domain.reservation.service.exception.ReservationExceptionCode;
+import io.nbc.selectedseat.domain.reservation.service.query.ReservationReader;
+import io.nbc.selectedseat.domain.seat.command.SeatWriter;
+import io.nbc.selectedseat.domain.ticket.dto.TicketInfo;
+import io.nbc.selectedseat.domain.ticket.dto.TicketPriceInfo;
+import io.nbc.selectedseat.domain.ticket.model.TicketRating;
+import io.nbc.selectedseat.domain.ticket.service.query.TicketPriceReader;
+import io.nbc.selectedseat.domain.ticket.service.query.TicketReader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationFacadeTest {
+
+    private static final Long CONCERT_ID = 1L;
+    private static final Long CONCERT_DATE_ID = 1L;
+    private static final Long TICKET_ID = 1L;
+    private static final String HOLD_KEY = "concert:1:ticketId:1";
+
+    @Mock
+    private ConcertReader concertReader;
+    @Mock
+    private MemberReader memberReader;
+    @Mock
+    private TicketReader ticketReader;
+    @Mock
+    private TicketPriceReader ticketPriceReader;
+    @Mock
+    private ReservationStreamWriter reservationStreamWriter;
+    @Mock
+    private AdmissionWriter admissionWriter;
+    @Mock
+    private BackendHealthWriter backendHealthWriter;
+
+    private FakeReservationRepository reservationRepository;
+    private FakeSeatHoldManager seatHoldManager;
+
+    @BeforeEach
+    void init() {
+        reservationRepository = new FakeReservationRepository();
+        seatHoldManager = new FakeSeatHoldManager();
+
+        given(ticketReader.getTicket(TICKET_ID)).willReturn(new TicketInfo(
+            TICKET_ID, CONCERT_ID, CONCERT_DATE_ID, TicketRating.R, "R1", null));
+    }
+
+    private ReservationFacade reservationFacade() {
+        return new ReservationFacade(
+            concertReader,
+            memberReader,
+            ticketReader,
+            ticketPriceReader,
+            new ReservationWriter(reservationRepository, seatHoldManager),
+            reservationStreamWriter,
+            new ReservationReader(reservationRepository),
+            new SeatWriter(seatHoldManager),
+            admissionWriter,
+            backendHealthWriter
+        );
+    }
+
+    private void givenTicketPrice() {
+        given(ticketPriceReader.getTicketPriceByConcertAndRating(CONCERT_ID, TicketRating.R))
+            .willReturn(new TicketPriceInfo(1L, CONCERT_ID, TicketRating.R, 10000L));
+    }
+
+    private void saveReservation(
+        final Long reservationId,
+        final Long memberId,
+        final ReservationState reservationState
+    ) {
+        reservationRepository.saveReservation(Reservation.builder()
+            .reservationId(reservationId)
+            .concertId(CONCERT_ID)
+            .memberId(memberId)
+            .ticketId(TICKET_ID)
+            .ticketPriceId(1L)
+            .reservationState(reservationState)
+            .build());
+    }
+
+    private void claim(final Long memberId) {
+        seatHoldManager.claim(HOLD_KEY, memberId.toString(), ReservationWriter.SEAT_HOLD_LEASE,
+            null, TICKET_ID, false);
+    }
+
+    @Test
+    @DisplayName("진행 중인 예약을 취소하면 좌석 선점을 해제하고 좌석을 되돌린다")
+    void when_delete_progress_reservation_then_release_seat() {
+        //given
+        saveReservation(1L, 1L, ReservationState.PROGRESS);
+        claim(1L);
+
+        //when
+        reservationFacade().deleteReservation(1L);
+
+        //then
+        assertThat(seatHoldManager.isHeld(HOLD_KEY)).isFalse();
+        assertThat(seatHoldManager.isTaken(TICKET_ID)).isFalse();
+    }
+
+    @Test
+    @DisplayName("확정된 예약을 취소하면 좌석을 다시 선점한 뒤 되돌린다")
+    void when_delete_completed_reservation_then_release_seat() {
+        //given
+        saveReservation(1L, 1L, ReservationState.COMPLETED);
+        claim(1L);
+        seatHoldManager.release(HOLD_KEY, "1");
+
+        //when
+        reservationFacade().deleteReservation(1L);
+
+        //then
+        assertThat(seatHoldManager.isHeld(HOLD_KEY)).isFalse();
+        assertThat(seatHoldManager.isTaken(TICKET_ID)).isFalse();
+    }
+
+    @Test
+    @DisplayName("예약을 취소해도 다른 회원의 좌석 선점은 해제하지 않는다")
+    void when_delete_reservation_then_keep_other_member_hold() {
+        //given
+        saveReservation(1L, 1L, ReservationState.PROGRESS);
+        claim(1L);
+        seatHoldManager.expire(HOLD_KEY);
+        seatHoldManager.claim(HOLD_KEY, "2", ReservationWriter.SEAT_HOLD_LEASE,
+            null, TICKET_ID, true);
+
+        //when
+        reservationFacade().deleteReservation(1L);
+
+        //then
+        assertThat(seatHoldManager.isHeldBy(HOLD_KEY, "2")).isTrue();
+        assertThat(seatHoldManager.isTaken(TICKET_ID)).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 예약이 확정한 좌석은 예약할 수 없다")
+    void when_create_reservation_for_sold_ticket_then_throw() {
+        //given
+        givenTicketPrice();
+        saveReservation(2L, 2L, ReservationState.COMPLETED);
+        claim(2L);
+        seatHoldManager.release(HOLD_KEY, "2");
+
+        //when & then
+        assertThatThrownBy(() -> reservationFacade().createReservation(
+            CONCERT_ID, 1L, TICKET_ID, CONCERT_DATE_ID))
+            .isInstanceOf(CustomReservationException.class)
+            .hasMessage(ReservationExceptionCode.SEAT_SOLD.getMessage());
+        assertThat(seatHoldManager.isHeld(HOLD_KEY)).isFalse();
+        assertThat(seatHoldManager.isTaken(TICKET_ID)).isTrue();
+    }
+
+    @Test
+    @DisplayName("선점이 만료된 채 남은 좌석은 확정된 예약이 없으면 다시 선점해 예약한다")
+    void when_create_reservation_for_expired_hold_then_force_claim() {
+        //given
+        givenTicketPrice();
+        saveReservation(2L, 2L, ReservationState.PROGRESS);
+        claim(2L);
+        seatHoldManager.expire(HOLD_KEY);
+
+        //when
+        Long reservationId = reservationFacade().createReservation(
+            CONCERT_ID, 1L, TICKET_ID, CONCERT_DATE_ID);
+
+        //then
+        assertThat(reservationId).isEqualTo(1L);
+        assertThat(seatHoldManager.isHeldBy(HOLD_KEY, "1")).isTrue();
+    }
+
+    @Test
+    @DisplayName("예약 저장에 실패하면 선점한 좌석을 되돌린다")
+    void when_insert_reservation_fails_then_release_claim() {
+        //given
+        givenTicketPrice();
+        reservationRepository = new FakeReservationRepository() {
+            @Override
+            public Long createReservation(final Reservation reservation) {
+                throw new DataAccessResourceFailureException("connection refused");
+            }
+        };
+
+        //when & then
+        assertThatThrownBy(() -> reservationFacade().createReservation(
+            CONCERT_ID, 1L, TICKET_ID, CONCERT_DATE_ID))
+            .isInstanceOf(DataAccessResourceFailureException.class);
+        assertThat(seatHoldManager.isHeld(HOLD_KEY)).isFalse();
+        assertThat(seatHoldManager.isTaken(TICKET_ID)).isFalse();
+    }
+}
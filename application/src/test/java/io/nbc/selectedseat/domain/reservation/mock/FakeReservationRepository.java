@@ -1,6 +1,7 @@
 package io.nbc.selectedseat.domain.reservation.mock;
 
 import io.nbc.selectedseat.domain.reservation.model.Reservation;
+import io.nbc.selectedseat.domain.reservation.model.ReservationState;
 import io.nbc.selectedseat.domain.reservation.repository.ReservationRepository;
 import io.nbc.selectedseat.domain.ticket.model.TicketRating;
 import java.time.LocalDateTime;
@@ -17,7 +18,13 @@ public class FakeReservationRepository implements ReservationRepository {
 
     @Override
     public Long createReservation(final Reservation reservation) {
-        return 1L;
+        if (reservation.getReservationId() == null) {
+            return 1L;
+        }
+
+        reservations.removeIf(r -> r.getReservationId().equals(reservation.getReservationId()));
+        reservations.add(reservation);
+        return reservation.getReservationId();
     }
 
     @Override
@@ -49,6 +56,22 @@ public class FakeReservationRepository implements ReservationRepository {
 
     @Override
     public void deleteReservation(final Long id) {
+        reservations.removeIf(r -> r.getReservationId().equals(id));
+    }
+
+    @Override
+    public boolean isCompletedTicket(final Long ticketId) {
+        return reservations.stream()
+            .anyMatch(r -> r.getTicketId().equals(ticketId)
+                && r.getReservationState() == ReservationState.COMPLETED);
+    }
+
+    @Override
+    public Long getLastReservationId() {
+        return reservations.stream()
+            .map(Reservation::getReservationId)
+            .max(Long::compare)
+            .orElse(0L);
     }
 
     @Override
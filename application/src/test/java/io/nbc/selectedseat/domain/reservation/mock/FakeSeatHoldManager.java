@@ -0,0 +1,76 @@
+package io.nbc.selectedseat.domain.reservation.mock;
+
+import io.nbc.selectedseat.redis.seathold.SeatClaim;
+import io.nbc.selectedseat.redis.seathold.SeatHoldManager;
+import io.nbc.selectedseat.redis.seatmap.SeatMapKeys;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+public class FakeSeatHoldManager implements SeatHoldManager {
+
+    private final Map<String, String> holds = new HashMap<>();
+    private final Set<Long> takenSeats = new HashSet<>();
+
+    @Override
+    public boolean hold(final String key, final String owner, final Duration lease) {
+        return owner.equals(holds.computeIfAbsent(key, k -> owner));
+    }
+
+    @Override
+    public boolean extend(final String key, final String owner, final Duration lease) {
+        return owner.equals(holds.get(key));
+    }
+
+    @Override
+    public boolean release(final String key, final String owner) {
+        return holds.remove(key, owner);
+    }
+
+    @Override
+    public SeatClaim claim(final String key, final String owner, final Duration lease,
+        final SeatMapKeys seatMapKeys, final Long ticketId, final boolean force) {
+        final String holder = holds.get(key);
+        if (holder != null && !holder.equals(owner)) {
+            return SeatClaim.HELD;
+        }
+
+        if (holder == null && !force && takenSeats.contains(ticketId)) {
+            return SeatClaim.TAKEN;
+        }
+
+        holds.put(key, owner);
+        takenSeats.add(ticketId);
+        return SeatClaim.CLAIMED;
+    }
+
+    @Override
+    public boolean releaseClaim(final String key, final String owner,
+        final SeatMapKeys seatMapKeys, final Long ticketId) {
+        if (!release(key, owner)) {
+            return false;
+        }
+
+        takenSeats.remove(ticketId);
+        return true;
+    }
+
+    // the lease ran out; the seat-map field stays taken, as it does in Redis
+    public void expire(final String key) {
+        holds.remove(key);
+    }
+
+    public boolean isHeld(final String key) {
+        return holds.containsKey(key);
+    }
+
+    public boolean isHeldBy(final String key, final String owner) {
+        return owner.equals(holds.get(key));
+    }
+
+    public boolean isTaken(final Long ticketId) {
+        return takenSeats.contains(ticketId);
+    }
+}
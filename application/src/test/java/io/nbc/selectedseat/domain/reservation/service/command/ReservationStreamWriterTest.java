@@ -0,0 +1,64 @@
+package io.nbc.selectedseat.domain.reservation.service.command;
+
+import static io.nbc.selectedseat.domain.reservation.service.command.ReservationStreamWriter.PENDING_TTL;
+import static io.nbc.selectedseat.domain.reservation.service.command.ReservationStreamWriter.RESERVATION_PENDING;
+import static io.nbc.selectedseat.domain.reservation.service.command.ReservationStreamWriter.RESERVATION_SEQUENCE;
+import static io.nbc.selectedseat.domain.reservation.service.command.ReservationStreamWriter.RESERVATION_STREAM;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verify;
+
+import io.nbc.selectedseat.domain.reservation.mock.FakeReservationRepository;
+import io.nbc.selectedseat.redis.service.RedisService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationStreamWriterTest {
+
+    @Mock
+    private RedisService redisService;
+
+    private ReservationStreamWriter reservationStreamWriter;
+
+    @BeforeEach
+    void init() {
+        reservationStreamWriter = new ReservationStreamWriter(
+            redisService, new FakeReservationRepository());
+        given(redisService.nextSequence(RESERVATION_SEQUENCE)).willReturn(1L);
+    }
+
+    @Test
+    @DisplayName("예약을 스트림에 넣기 전에 처리 중 표시를 남긴다")
+    void when_append_reservation_then_mark_pending_before_stream() {
+        //when
+        reservationStreamWriter.appendReservation(1L, 1L, 1L, 1L);
+
+        //then
+        InOrder order = inOrder(redisService);
+        order.verify(redisService).set(RESERVATION_PENDING.formatted(1L), "1", PENDING_TTL);
+        order.verify(redisService).appendStream(eq(RESERVATION_STREAM), anyMap());
+    }
+
+    @Test
+    @DisplayName("스트림에 넣지 못하면 처리 중 표시를 지운다")
+    void when_append_stream_fails_then_clear_pending() {
+        //given
+        given(redisService.appendStream(eq(RESERVATION_STREAM), anyMap()))
+            .willThrow(new DataAccessResourceFailureException("connection refused"));
+
+        //when & then
+        assertThatThrownBy(() -> reservationStreamWriter.appendReservation(1L, 1L, 1L, 1L))
+            .isInstanceOf(DataAccessResourceFailureException.class);
+        verify(redisService).delete(RESERVATION_PENDING.formatted(1L));
+    }
+}
@@ -1,20 +1,51 @@
 package io.nbc.selectedseat.domain.reservation.service.command;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 
 import io.nbc.selectedseat.domain.reservation.mock.FakeReservationRepository;
+import io.nbc.selectedseat.domain.reservation.mock.FakeSeatHoldManager;
+import io.nbc.selectedseat.domain.reservation.model.Reservation;
+import io.nbc.selectedseat.domain.reservation.model.ReservationState;
+import io.nbc.selectedseat.domain.reservation.service.exception.CustomReservationException;
+import io.nbc.selectedseat.domain.reservation.service.exception.ReservationExceptionCode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 class ReservationWriterTest {
 
+    private static final String HOLD_KEY = "concert:1:ticketId:1";
+
     private ReservationWriter reservationWriter;
+    private FakeReservationRepository reservationRepository;
+    private FakeSeatHoldManager seatHoldManager;
 
     @BeforeEach
     void init() {
-        reservationWriter = new ReservationWriter(new FakeReservationRepository());
+        reservationRepository = new FakeReservationRepository();
+        seatHoldManager = new FakeSeatHoldManager();
+        reservationWriter = new ReservationWriter(reservationRepository, seatHoldManager);
+    }
+
+    private Reservation reservation(final ReservationState reservationState) {
+        return reservation(1L, 1L, reservationState);
+    }
+
+    private Reservation reservation(
+        final Long reservationId,
+        final Long memberId,
+        final ReservationState reservationState
+    ) {
+        return Reservation.builder()
+            .reservationId(reservationId)
+            .concertId(1L)
+            .memberId(memberId)
+            .ticketId(1L)
+            .ticketPriceId(1L)
+            .reservationState(reservationState)
+            .build();
     }
 
     @Test
@@ -45,4 +76,50 @@ class ReservationWriterTest {
         //when & then
         assertDoesNotThrow(() -> reservationWriter.deleteReservation(1L));
     }
+
+    @Test
+    @DisplayName("다른 회원이 좌석을 선점했다면 예약을 확정할 수 없다")
+    void when_complete_reservation_without_hold_then_throw() {
+        //given
+        reservationRepository.saveReservation(reservation(ReservationState.PROGRESS));
+        seatHoldManager.hold(HOLD_KEY, "2", ReservationWriter.SEAT_HOLD_LEASE);
+
+        //when & then
+        assertThatThrownBy(() -> reservationWriter.completeReservation(1L))
+            .isInstanceOf(CustomReservationException.class);
+    }
+
+    @Test
+    @DisplayName("예약을 확정하면 좌석 선점을 해제한다")
+    void when_complete_reservation_then_release_hold() {
+        //given
+        reservationRepository.saveReservation(reservation(ReservationState.PROGRESS));
+        seatHoldManager.hold(HOLD_KEY, "1", ReservationWriter.SEAT_HOLD_LEASE);
+
+        //when
+        reservationWriter.completeReservation(1L);
+
+        //then
+        assertThat(seatHoldManager.isHeld(HOLD_KEY)).isFalse();
+    }
+
+    @Test
+    @DisplayName("선점이 만료된 사이 다른 회원이 예약을 확정했다면 예약을 확정할 수 없다")
+    void when_complete_reservation_after_another_member_completed_then_throw() {
+        //given
+        reservationRepository.saveReservation(reservation(1L, 1L, ReservationState.PROGRESS));
+        reservationRepository.saveReservation(reservation(2L, 2L, ReservationState.PROGRESS));
+        seatHoldManager.hold(HOLD_KEY, "2", ReservationWriter.SEAT_HOLD_LEASE);
+        reservationWriter.completeReservation(2L);
+
+        //when & then
+        assertThatThrownBy(() -> reservationWriter.completeReservation(1L))
+            .isInstanceOf(CustomReservationException.class)
+            .hasMessage(ReservationExceptionCode.SEAT_SOLD.getMessage());
+        assertThat(reservationRepository.getReservation(1L))
+            .get()
+            .extracting(Reservation::getReservationState)
+            .isEqualTo(ReservationState.PROGRESS);
+        assertThat(seatHoldManager.isHeld(HOLD_KEY)).isFalse();
+    }
 }
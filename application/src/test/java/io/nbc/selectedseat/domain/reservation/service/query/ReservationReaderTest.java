@@ -7,6 +7,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import io.nbc.selectedseat.domain.reservation.dto.ReservationInfoDTO;
 import io.nbc.selectedseat.domain.reservation.mock.FakeReservationRepository;
 import io.nbc.selectedseat.domain.reservation.model.Reservation;
+import io.nbc.selectedseat.domain.reservation.model.ReservationState;
 import io.nbc.selectedseat.domain.reservation.service.exception.CustomReservationException;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
@@ -82,4 +83,26 @@ class ReservationReaderTest {
         assertThat(reservations).isNotNull();
         assertThat(reservations.size()).isEqualTo(3);
     }
+
+    @Test
+    @DisplayName("결제가 완료된 예약이 있는 좌석만 판매된 좌석으로 본다")
+    void when_ticket_has_completed_reservation_then_return_true() {
+        //given
+        fakeReservationRepository.saveReservation(Reservation.builder()
+            .reservationId(1L)
+            .ticketId(1L)
+            .reservationState(ReservationState.COMPLETED)
+            .build()
+        );
+        fakeReservationRepository.saveReservation(Reservation.builder()
+            .reservationId(2L)
+            .ticketId(2L)
+            .reservationState(ReservationState.PROGRESS)
+            .build()
+        );
+
+        //when & then
+        assertThat(reservationReader.isCompletedTicket(1L)).isTrue();
+        assertThat(reservationReader.isCompletedTicket(2L)).isFalse();
+    }
 }
@@ -0,0 +1,33 @@
+package io.nbc.selectedseat.domain.ticket.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.nbc.selectedseat.domain.ticket.model.TicketRating;
+import io.nbc.selectedseat.redis.serializer.BinaryInput;
+import io.nbc.selectedseat.redis.serializer.BinaryOutput;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class TicketPriceInfoCodecTest {
+
+    private final TicketPriceInfoCodec codec = new TicketPriceInfoCodec();
+
+    @Test
+    @DisplayName("티켓 가격은 등급과 null 필드까지 그대로 복원된다")
+    void when_round_trip_ticket_price_then_restore_all_fields() {
+        //given
+        TicketPriceInfo price = new TicketPriceInfo(3L, 1L, TicketRating.R, 165000L);
+        TicketPriceInfo empty = new TicketPriceInfo(null, null, null, null);
+
+        //when-then
+        assertThat(roundTrip(price)).isEqualTo(price);
+        assertThat(roundTrip(empty)).isEqualTo(empty);
+        assertThat(codec.tag()).isEqualTo(19);
+    }
+
+    private TicketPriceInfo roundTrip(final TicketPriceInfo value) {
+        BinaryOutput out = new BinaryOutput(16);
+        codec.write(out, value);
+        return codec.read(new BinaryInput(out.toByteArray()));
+    }
+}
@@ -0,0 +1,115 @@
+package io.nbc.selectedseat.batch.reader;
+
+import io.nbc.selectedseat.batch.task.ticket.TicketRow;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+// ./gradlew :batch:jmh
+// reads the whole tickets table a page at a time. offset is the LIMIT ? OFFSET ? query
+// JpaPagingItemReader issued, without its entity overhead; keyset is KeysetItemReader.
+// Runs on in-memory H2 unless pointed at MySQL with -Djdbc.url, -Djdbc.username, -Djdbc.password
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class KeysetItemReaderBenchmark {
+
+    private static final int PAGE_SIZE = 1000;
+
+    private static final String CREATE_TABLE_SQL = """
+        CREATE TABLE IF NOT EXISTS tickets (
+            ticket_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+            concert_id BIGINT NOT NULL,
+            concert_date_id BIGINT NOT NULL,
+            ticket_rating VARCHAR(255) NOT NULL,
+            ticket_number VARCHAR(255) NOT NULL,
+            created_at DATETIME(6),
+            modified_at DATETIME(6),
+            deleted_at DATETIME(6)
+        )
+        """;
+
+    private static final String OFFSET_SQL = """
+        SELECT ticket_id, concert_id, concert_date_id, ticket_rating, ticket_number
+        FROM tickets
+        ORDER BY ticket_id
+        LIMIT ? OFFSET ?
+        """;
+
+    private static final String KEYSET_SQL = """
+        SELECT ticket_id, concert_id, concert_date_id, ticket_rating, ticket_number
+        FROM tickets
+        WHERE ticket_id > ?
+        ORDER BY ticket_id
+        LIMIT ?
+        """;
+
+    @Param({"100000", "500000"})
+    private int rows;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @Setup
+    public void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+            System.getProperty("jdbc.url", "jdbc:h2:mem:keyset;DB_CLOSE_DELAY=-1"),
+            System.getProperty("jdbc.username", "sa"),
+            System.getProperty("jdbc.password", "")));
+
+        jdbcTemplate.execute(CREATE_TABLE_SQL);
+        jdbcTemplate.execute("TRUNCATE TABLE tickets");
+        for (int from = 0; from < rows; from += PAGE_SIZE) {
+            final int to = Math.min(from + PAGE_SIZE, rows);
+            jdbcTemplate.batchUpdate("""
+                    INSERT INTO tickets(concert_id, concert_date_id, ticket_rating, ticket_number)
+                    VALUES (1, 1, 'R', ?)
+                    """,
+                IntStream.range(from, to)
+                    .mapToObj(seat -> new Object[]{String.valueOf(seat)})
+                    .toList());
+        }
+    }
+
+    @Benchmark
+    public long offset() {
+        long read = 0;
+        for (int offset = 0; ; offset += PAGE_SIZE) {
+            List<TicketRow> page = jdbcTemplate.query(OFFSET_SQL, TicketRow::from,
+                PAGE_SIZE, offset);
+            read += page.size();
+            if (page.size() < PAGE_SIZE) {
+                return read;
+            }
+        }
+    }
+
+    @Benchmark
+    public long keyset() {
+        KeysetItemReader<TicketRow> reader = new KeysetItemReaderBuilder<TicketRow>()
+            .name("ticketReader")
+            .jdbcTemplate(jdbcTemplate)
+            .sql(KEYSET_SQL)
+            .rowMapper(TicketRow::from)
+            .keyExtractor(TicketRow::ticketId)
+            .pageSize(PAGE_SIZE)
+            .build();
+        reader.open(new ExecutionContext());
+
+        long read = 0;
+        while (reader.read() != null) {
+            read++;
+        }
+        return read;
+    }
+}
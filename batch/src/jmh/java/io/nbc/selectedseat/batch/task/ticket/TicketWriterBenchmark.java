@@ -0,0 +1,139 @@
+package io.nbc.selectedseat.batch.task.ticket;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.database.JdbcBatchItemWriter;
+import org.springframework.batch.item.database.builder.JdbcBatchItemWriterBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+// ./gradlew :batch:jmh
+// writes a whole concert date in 1,500-seat chunks, the chunk size of the ticket creation jobs.
+// threads=1 is ticketCreateJob and threads=10 the multi-threaded and partitioned jobs.
+// Rows per second is seats / score. Runs on in-memory H2 unless pointed at MySQL with
+// -Djdbc.url=jdbc:mysql://localhost:3306/selectedseat -Djdbc.username=... -Djdbc.password=...
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TicketWriterBenchmark {
+
+    private static final int CHUNK_SIZE = 1500;
+
+    private static final String SINGLE_ROW_SQL = """
+        INSERT INTO
+            tickets(concert_id, concert_date_id, ticket_rating, ticket_number, created_at, modified_at, deleted_at)
+        VALUES
+            (:concertId, :concertDateId, :ticketRating, :ticketNumber, :createdAt, :modifiedAt, :deletedAt)
+        """;
+
+    private static final String CREATE_TABLE_SQL = """
+        CREATE TABLE IF NOT EXISTS tickets (
+            ticket_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+            concert_id BIGINT NOT NULL,
+            concert_date_id BIGINT NOT NULL,
+            ticket_rating VARCHAR(255) NOT NULL,
+            ticket_number VARCHAR(255) NOT NULL,
+            created_at DATETIME(6),
+            modified_at DATETIME(6),
+            deleted_at DATETIME(6)
+        )
+        """;
+
+    @Param({"single-row", "multi-row"})
+    private String writer;
+
+    @Param({"100000", "1000000"})
+    private long seats;
+
+    @Param({"1", "10"})
+    private int threads;
+
+    private JdbcTemplate jdbcTemplate;
+    private ItemWriter<TicketBatchEntity> itemWriter;
+    private TicketSeatGenerator generator;
+    private ExecutorService executor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        DataSource dataSource = new DriverManagerDataSource(
+            System.getProperty("jdbc.url", "jdbc:h2:mem:tickets;DB_CLOSE_DELAY=-1"),
+            System.getProperty("jdbc.username", "sa"),
+            System.getProperty("jdbc.password", ""));
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute(CREATE_TABLE_SQL);
+        itemWriter = "multi-row".equals(writer)
+            ? new TicketBulkInsertItemWriter(dataSource,
+                TicketBulkInsertItemWriter.DEFAULT_ROWS_PER_STATEMENT)
+            : singleRowWriter(dataSource);
+        generator = TicketSeatGenerator.of(1L, 1L, 50L,
+            seats / 5, seats * 2 / 5, seats - seats / 5 - seats * 2 / 5);
+        executor = Executors.newFixedThreadPool(threads);
+    }
+
+    @Setup(Level.Invocation)
+    public void truncate() {
+        jdbcTemplate.execute("TRUNCATE TABLE tickets");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Benchmark
+    public void write() throws Exception {
+        List<Future<?>> chunks = new ArrayList<>();
+        for (long start = 0; start < generator.size(); start += CHUNK_SIZE) {
+            final long from = start;
+            final long to = Math.min(start + CHUNK_SIZE, generator.size());
+            chunks.add(executor.submit(() -> {
+                itemWriter.write(chunk(from, to));
+                return null;
+            }));
+        }
+
+        for (Future<?> chunk : chunks) {
+            chunk.get();
+        }
+    }
+
+    // the writer the jobs used before; outside a context nothing calls afterPropertiesSet
+    private static ItemWriter<TicketBatchEntity> singleRowWriter(final DataSource dataSource) {
+        JdbcBatchItemWriter<TicketBatchEntity> jdbcBatchItemWriter =
+            new JdbcBatchItemWriterBuilder<TicketBatchEntity>()
+                .dataSource(dataSource)
+                .sql(SINGLE_ROW_SQL)
+                .beanMapped()
+                .build();
+        jdbcBatchItemWriter.afterPropertiesSet();
+
+        return jdbcBatchItemWriter;
+    }
+
+    private Chunk<TicketBatchEntity> chunk(final long from, final long to) {
+        List<TicketBatchEntity> tickets = new ArrayList<>((int) (to - from));
+        for (long index = from; index < to; index++) {
+            tickets.add(generator.seatAt(index));
+        }
+
+        return new Chunk<>(tickets);
+    }
+}
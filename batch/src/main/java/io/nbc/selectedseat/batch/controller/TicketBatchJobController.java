@@ -1,7 +1,9 @@
 package io.nbc.selectedseat.batch.controller;
 
 import io.nbc.selectedseat.batch.controller.dto.TicketCreateRequestDTO;
+import io.nbc.selectedseat.batch.partition.TicketCreatePartition;
 import io.nbc.selectedseat.batch.service.TicketService;
+import io.nbc.selectedseat.batch.task.ticket.TicketBulkInsertItemWriter;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.batch.core.JobParameters;
@@ -34,6 +36,9 @@ public class TicketBatchJobController {
             .addLong("numOfSRatingTicket", ticket.numOfSRatingTicket())
             .addLong("numOfARatingTicket", ticket.numOfARatingTicket())
             .addLong("totalSeats", totalSeats)
+            .addLong("rowsPerStatement", ticket.rowsPerStatement() == null
+                ? TicketBulkInsertItemWriter.DEFAULT_ROWS_PER_STATEMENT
+                : ticket.rowsPerStatement())
             .toJobParameters();
 
         ticketService.createTickets(jobParameters);
@@ -56,6 +61,11 @@ public class TicketBatchJobController {
             .addLong("numOfSRatingTicket", ticket.numOfSRatingTicket())
             .addLong("numOfARatingTicket", ticket.numOfARatingTicket())
             .addLong("totalSeats", totalSeats)
+            .addLong("rowsPerStatement", ticket.rowsPerStatement() == null
+                ? TicketBulkInsertItemWriter.DEFAULT_ROWS_PER_STATEMENT
+                : ticket.rowsPerStatement())
+            .addLong("gridSize", ticket.gridSize() == null
+                ? TicketCreatePartition.DEFAULT_GRID_SIZE : ticket.gridSize())
             .toJobParameters();
 
         ticketService.partition(jobParameters);
@@ -78,6 +88,9 @@ public class TicketBatchJobController {
             .addLong("numOfSRatingTicket", ticket.numOfSRatingTicket())
             .addLong("numOfARatingTicket", ticket.numOfARatingTicket())
             .addLong("totalSeats", totalSeats)
+            .addLong("rowsPerStatement", ticket.rowsPerStatement() == null
+                ? TicketBulkInsertItemWriter.DEFAULT_ROWS_PER_STATEMENT
+                : ticket.rowsPerStatement())
             .toJobParameters();
 
         ticketService.multiThread(jobParameters);
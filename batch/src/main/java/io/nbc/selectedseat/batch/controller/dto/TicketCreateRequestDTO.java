@@ -6,7 +6,9 @@ public record TicketCreateRequestDTO(
     Long numOfRow,
     Long numOfRRatingTicket,
     Long numOfSRatingTicket,
-    Long numOfARatingTicket
+    Long numOfARatingTicket,
+    Long gridSize,
+    Long rowsPerStatement
 ) {
 
 }
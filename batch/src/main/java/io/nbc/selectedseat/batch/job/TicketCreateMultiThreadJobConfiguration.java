@@ -1,19 +1,21 @@
 package io.nbc.selectedseat.batch.job;
 
 import io.nbc.selectedseat.batch.task.ticket.TicketBatchEntity;
+import io.nbc.selectedseat.batch.task.ticket.TicketBulkInsertItemWriter;
 import javax.sql.DataSource;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobExecutionListener;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.launch.support.RunIdIncrementer;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.item.ItemReader;
 import org.springframework.batch.item.ItemWriter;
-import org.springframework.batch.item.database.builder.JdbcBatchItemWriterBuilder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
@@ -66,23 +68,16 @@ public class TicketCreateMultiThreadJobConfiguration {
             .build();
     }
 
+    // rows per INSERT is a job parameter so it can be tuned per run without a redeploy;
+    // the writer rejects a value outside 1..MAX_ROWS_PER_STATEMENT before the step reads anything
     @Bean
+    @StepScope
     public ItemWriter<TicketBatchEntity> ticketCreateMultiThreadWriter(
-        final DataSource masterDataSource
+        final DataSource masterDataSource,
+        @Value("#{jobParameters['rowsPerStatement']}") final Long rowsPerStatement
     ) {
-        return new JdbcBatchItemWriterBuilder<TicketBatchEntity>()
-            .dataSource(masterDataSource)
-            .sql(ticketCreateBatchSql())
-            .beanMapped()
-            .build();
-    }
-
-    private static String ticketCreateBatchSql() {
-        return """
-            INSERT INTO
-                tickets(concert_id, concert_date_id, ticket_rating, ticket_number, created_at, modified_at, deleted_at)
-            VALUES
-                (:concertId, :concertDateId, :ticketRating, :ticketNumber, :createdAt, :modifiedAt, :deletedAt)
-            """;
+        return new TicketBulkInsertItemWriter(masterDataSource, rowsPerStatement == null
+            ? TicketBulkInsertItemWriter.DEFAULT_ROWS_PER_STATEMENT
+            : rowsPerStatement);
     }
 }
@@ -1,5 +1,6 @@
 package io.nbc.selectedseat.batch.job;
 
+import io.nbc.selectedseat.batch.partition.TicketCreatePartition;
 import io.nbc.selectedseat.batch.task.ticket.TicketBatchEntity;
 import lombok.RequiredArgsConstructor;
 import org.springframework.batch.core.Job;
@@ -42,8 +43,10 @@ public class TicketCreatePartitioningJobConfiguration {
     public ThreadPoolTaskExecutor threadPoolTaskExecutor() {
         ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
 
-        threadPoolTaskExecutor.setCorePoolSize(10);
-        threadPoolTaskExecutor.setMaxPoolSize(20);
+        threadPoolTaskExecutor.setCorePoolSize(
+            Math.max(10, TicketCreatePartition.DEFAULT_GRID_SIZE));
+        threadPoolTaskExecutor.setMaxPoolSize(
+            Math.max(20, TicketCreatePartition.DEFAULT_GRID_SIZE));
         threadPoolTaskExecutor.initialize();
 
         return threadPoolTaskExecutor;
@@ -84,7 +87,7 @@ public class TicketCreatePartitioningJobConfiguration {
 
         partitionHandler.setStep(ticketCreatePartitionStep);
         partitionHandler.setTaskExecutor(threadPoolTaskExecutor());
-        partitionHandler.setGridSize(3);
+        partitionHandler.setGridSize(TicketCreatePartition.DEFAULT_GRID_SIZE);
 
         return partitionHandler;
     }
@@ -1,27 +1,25 @@
 package io.nbc.selectedseat.batch.job;
 
-import io.nbc.selectedseat.batch.task.ticket.TicketBatchEntity;
-import io.nbc.selectedseat.db.core.domain.concert.entity.ConcertDateEntity;
-import io.nbc.selectedseat.db.core.domain.ticket.entity.TicketEntity;
-import jakarta.persistence.EntityManagerFactory;
-import javax.sql.DataSource;
+import io.nbc.selectedseat.batch.listener.StepThroughputListener;
+import io.nbc.selectedseat.batch.reader.KeysetItemReaderBuilder;
+import io.nbc.selectedseat.batch.task.concert.ConcertDateRow;
+import io.nbc.selectedseat.batch.task.ticket.TicketExpireTasklet;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobExecutionListener;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.launch.support.RunIdIncrementer;
 import org.springframework.batch.core.listener.ExecutionContextPromotionListener;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
-import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.ItemReader;
 import org.springframework.batch.item.ItemWriter;
-import org.springframework.batch.item.database.builder.JdbcBatchItemWriterBuilder;
-import org.springframework.batch.item.database.builder.JpaPagingItemReaderBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.PlatformTransactionManager;
 
 @Slf4j
@@ -29,10 +27,6 @@ import org.springframework.transaction.PlatformTransactionManager;
 @RequiredArgsConstructor
 public class TicketExpireJobConfiguration {
 
-    public static final String CONCERT_DATE_QUERY = "SELECT c FROM ConcertDateEntity c WHERE DATEDIFF(c.concertDate, NOW()) < 0 ORDER BY c.concertDateId";
-    public static final String TICKET_EXPIRE_QUERY = "SELECT t FROM TicketEntity t WHERE t.deletedAt IS NULL ORDER BY t.id ASC";
-    public static final String TICKET_UPDATE_QUERY = "UPDATE tickets SET deleted_at = :deletedAt WHERE ticket_id = :ticketId";
-
     private final JobRepository jobRepository;
     private final PlatformTransactionManager platformTransactionManager;
     private final Integer CHUNK_SIZE = 5000;
@@ -53,12 +47,12 @@ public class TicketExpireJobConfiguration {
 
     @Bean
     public Step concertDateReadJob(
-        final ItemReader<ConcertDateEntity> concertDateItemReader,
-        final ItemWriter<ConcertDateEntity> concertDateItemWriter,
+        final ItemReader<ConcertDateRow> concertDateItemReader,
+        final ItemWriter<ConcertDateRow> concertDateItemWriter,
         final ExecutionContextPromotionListener concertDatePromotionListener
     ) {
         return new StepBuilder("concertDateReadJob", jobRepository)
-            .<ConcertDateEntity, ConcertDateEntity>chunk(CHUNK_SIZE,
+            .<ConcertDateRow, ConcertDateRow>chunk(CHUNK_SIZE,
                 platformTransactionManager)
             .reader(concertDateItemReader)
             .writer(concertDateItemWriter)
@@ -68,14 +62,16 @@ public class TicketExpireJobConfiguration {
     }
 
     @Bean
-    public ItemReader<ConcertDateEntity> concertDateItemReader(
-        final EntityManagerFactory entityManagerFactory
+    public ItemReader<ConcertDateRow> concertDateItemReader(
+        final JdbcTemplate jdbcTemplate
     ) {
-        return new JpaPagingItemReaderBuilder<ConcertDateEntity>()
+        return new KeysetItemReaderBuilder<ConcertDateRow>()
             .name("concertDateItemReader")
-            .entityManagerFactory(entityManagerFactory)
+            .jdbcTemplate(jdbcTemplate)
+            .sql(expiredConcertDateSql())
+            .rowMapper(ConcertDateRow::from)
+            .keyExtractor(ConcertDateRow::concertDateId)
             .pageSize(CHUNK_SIZE)
-            .queryString(CONCERT_DATE_QUERY)
             .build();
     }
 
@@ -92,40 +88,24 @@ public class TicketExpireJobConfiguration {
 
     @Bean
     public Step ticketExpireStep(
-        final ItemReader<TicketEntity> ticketExpireItemReader,
-        final ItemProcessor<TicketEntity, TicketBatchEntity> ticketExpireItemProcessor,
-        final ItemWriter<TicketBatchEntity> ticketExpireWriter
+        final TicketExpireTasklet ticketExpireTasklet,
+        final StepThroughputListener stepThroughputListener
     ) {
         return new StepBuilder("ticketExpireStep", jobRepository)
-            .<TicketEntity, TicketBatchEntity>chunk(CHUNK_SIZE,
-                platformTransactionManager)
-            .reader(ticketExpireItemReader)
-            .processor(ticketExpireItemProcessor)
-            .writer(ticketExpireWriter)
+            .tasklet(ticketExpireTasklet, platformTransactionManager)
+            .listener((StepExecutionListener) ticketExpireTasklet)
+            .listener(stepThroughputListener)
             .allowStartIfComplete(true)
             .build();
     }
 
-    @Bean
-    public ItemReader<TicketEntity> ticketExpireItemReader(
-        final EntityManagerFactory entityManagerFactory
-    ) {
-        return new JpaPagingItemReaderBuilder<TicketEntity>()
-            .name("ticketExpireItemReader")
-            .entityManagerFactory(entityManagerFactory)
-            .pageSize(CHUNK_SIZE)
-            .queryString(TICKET_EXPIRE_QUERY)
-            .build();
-    }
-
-    @Bean
-    public ItemWriter<TicketBatchEntity> ticketExpireWriter(
-        final DataSource masterDataSource
-    ) {
-        return new JdbcBatchItemWriterBuilder<TicketBatchEntity>()
-            .dataSource(masterDataSource)
-            .sql(TICKET_UPDATE_QUERY)
-            .beanMapped()
-            .build();
+    private static String expiredConcertDateSql() {
+        return """
+            SELECT concert_date_id, concert_id
+            FROM concert_dates
+            WHERE concert_date < CURDATE() AND concert_date_id > ?
+            ORDER BY concert_date_id
+            LIMIT ?
+            """;
     }
 }
@@ -1,9 +1,10 @@
 package io.nbc.selectedseat.batch.job;
 
+import io.nbc.selectedseat.batch.listener.StepThroughputListener;
+import io.nbc.selectedseat.batch.reader.KeysetItemReaderBuilder;
+import io.nbc.selectedseat.batch.task.concert.ConcertDateRow;
 import io.nbc.selectedseat.batch.task.ticket.SeatKeyInfo;
-import io.nbc.selectedseat.db.core.domain.concert.entity.ConcertDateEntity;
-import io.nbc.selectedseat.db.core.domain.ticket.entity.TicketEntity;
-import jakarta.persistence.EntityManagerFactory;
+import io.nbc.selectedseat.batch.task.ticket.TicketRow;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
@@ -17,9 +18,9 @@ import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.ItemReader;
 import org.springframework.batch.item.ItemWriter;
-import org.springframework.batch.item.database.builder.JpaPagingItemReaderBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.PlatformTransactionManager;
 
 @Slf4j
@@ -27,9 +28,6 @@ import org.springframework.transaction.PlatformTransactionManager;
 @RequiredArgsConstructor
 public class TicketSeatKeyGenerationJobConfiguration {
 
-    public static final String CONCERT_DATE_1DAYS_BEFORE_QUERY = "select c from ConcertDateEntity c WHERE DATEDIFF(c.concertDate, NOW()) = 1 ORDER BY c.concertDateId";
-    public static final String CONCERT_1DAYS_BEFORE_TICKET_QUERY = "SELECT t FROM TicketEntity t ORDER BY t.ticketId";
-
     private final JobRepository jobRepository;
     private final PlatformTransactionManager platformTransactionManager;
     private final Integer CHUNK_SIZE = 1000;
@@ -50,12 +48,12 @@ public class TicketSeatKeyGenerationJobConfiguration {
 
     @Bean
     public Step concertDate1DayBeforeStep(
-        final ItemReader<ConcertDateEntity> concertDate1DayBeforeItemReader,
-        final ItemWriter<ConcertDateEntity> concertDate1DayBeforeItemWriter,
+        final ItemReader<ConcertDateRow> concertDate1DayBeforeItemReader,
+        final ItemWriter<ConcertDateRow> concertDate1DayBeforeItemWriter,
         final ExecutionContextPromotionListener concertDate1DaysBeforeExecutionListener
     ) {
         return new StepBuilder("concertDate1DayBeforeStep", jobRepository)
-            .<ConcertDateEntity, ConcertDateEntity>chunk(CHUNK_SIZE,
+            .<ConcertDateRow, ConcertDateRow>chunk(CHUNK_SIZE,
                 platformTransactionManager)
             .reader(concertDate1DayBeforeItemReader)
             .writer(concertDate1DayBeforeItemWriter)
@@ -66,32 +64,35 @@ public class TicketSeatKeyGenerationJobConfiguration {
 
     @Bean
     public Step ticketSeatKeyGenerationStep(
-        final ItemReader<TicketEntity> concert1DayBeforeTicketItemReader,
-        final ItemProcessor<TicketEntity, SeatKeyInfo> concert1DayBeforeTicketItemProcessor,
-        final ItemWriter<SeatKeyInfo> concert1DayBeforeTicketItemWriter
+        final ItemReader<TicketRow> concert1DayBeforeTicketItemReader,
+        final ItemProcessor<TicketRow, SeatKeyInfo> concert1DayBeforeTicketItemProcessor,
+        final ItemWriter<SeatKeyInfo> concert1DayBeforeTicketItemWriter,
+        final StepThroughputListener stepThroughputListener
     ){
         return new StepBuilder("ticketSeatKeyGenerationStep", jobRepository)
-            .<TicketEntity, SeatKeyInfo>chunk(CHUNK_SIZE,
+            .<TicketRow, SeatKeyInfo>chunk(CHUNK_SIZE,
                 platformTransactionManager)
             .reader(concert1DayBeforeTicketItemReader)
             .processor(concert1DayBeforeTicketItemProcessor)
             .writer(concert1DayBeforeTicketItemWriter)
+            .listener(stepThroughputListener)
             .allowStartIfComplete(true)
             .build();
     }
 
 
     @Bean
-    public ItemReader<ConcertDateEntity> concertDate1DayBeforeItemReader(
-        final EntityManagerFactory entityManagerFactory
+    public ItemReader<ConcertDateRow> concertDate1DayBeforeItemReader(
+        final JdbcTemplate jdbcTemplate
     ) {
-        return new JpaPagingItemReaderBuilder<ConcertDateEntity>()
+        return new KeysetItemReaderBuilder<ConcertDateRow>()
             .name("concertDate1DayBeforeItemReader")
-            .entityManagerFactory( entityManagerFactory)
+            .jdbcTemplate(jdbcTemplate)
+            .sql(concertDate1DayBeforeSql())
+            .rowMapper(ConcertDateRow::from)
+            .keyExtractor(ConcertDateRow::concertDateId)
             .pageSize(CHUNK_SIZE)
-            .queryString(CONCERT_DATE_1DAYS_BEFORE_QUERY)
             .build();
-
     }
 
     @Bean
@@ -105,15 +106,16 @@ public class TicketSeatKeyGenerationJobConfiguration {
         return executionContextPromotionListener;
     }
 
-    @Bean
-    public ItemReader<TicketEntity> concert1DayBeforeTicketItemReader(
-        final EntityManagerFactory entityManagerFactory
-    ) {
-        return new JpaPagingItemReaderBuilder<TicketEntity>()
-            .name("concert1DayBeforeTicketItemReader")
-            .entityManagerFactory(entityManagerFactory)
-            .pageSize(CHUNK_SIZE)
-            .queryString(CONCERT_1DAYS_BEFORE_TICKET_QUERY)
-            .build();
+    private static String concertDate1DayBeforeSql() {
+        return """
+            SELECT concert_date_id, concert_id
+            FROM concert_dates
+            WHERE deleted_at IS NULL
+                AND concert_date >= CURDATE() + INTERVAL 1 DAY
+                AND concert_date < CURDATE() + INTERVAL 2 DAY
+                AND concert_date_id > ?
+            ORDER BY concert_date_id
+            LIMIT ?
+            """;
     }
 }
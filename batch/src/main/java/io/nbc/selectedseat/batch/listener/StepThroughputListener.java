@@ -0,0 +1,35 @@
+package io.nbc.selectedseat.batch.listener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.stereotype.Component;
+
+// the end time is only set after the listeners run, so the step is measured up to now
+@Slf4j
+@Component
+public class StepThroughputListener implements StepExecutionListener {
+
+    public static final String ITEMS_PER_SECOND = "itemsPerSecond";
+
+    @Override
+    public ExitStatus afterStep(final StepExecution stepExecution) {
+        final LocalDateTime startTime = stepExecution.getStartTime();
+        if (startTime == null) {
+            return null;
+        }
+
+        final long writeCount = stepExecution.getWriteCount();
+        final long millis = Math.max(1L,
+            Duration.between(startTime, LocalDateTime.now()).toMillis());
+        final long itemsPerSecond = writeCount * 1000L / millis;
+
+        stepExecution.getExecutionContext().putLong(ITEMS_PER_SECOND, itemsPerSecond);
+        log.info("{} wrote {} items in {}ms ({} items/s)",
+            stepExecution.getStepName(), writeCount, millis, itemsPerSecond);
+        return null;
+    }
+}
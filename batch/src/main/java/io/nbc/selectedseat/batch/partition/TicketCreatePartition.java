@@ -2,8 +2,6 @@ package io.nbc.selectedseat.batch.partition;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Map.Entry;
-import java.util.concurrent.atomic.AtomicInteger;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.partition.support.Partitioner;
@@ -11,18 +9,16 @@ import org.springframework.batch.item.ExecutionContext;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+// splits the seat index space of all ratings into gridSize ranges that differ by at most
+// one seat, so every worker gets the same share whatever the rating sizes are
 @Slf4j
 @StepScope
 @Component
 public class TicketCreatePartition implements Partitioner {
-    @Value("#{jobParameters['concertId']}")
-    private Long concertId;
 
-    @Value("#{jobParameters['concertDateId']}")
-    private Long concertDateId;
-
-    @Value("#{jobParameters['numOfRow']}")
-    private Long numOfRow;
+    public static final String START_KEY = "start";
+    public static final String END_KEY = "end";
+    public static final int DEFAULT_GRID_SIZE = Runtime.getRuntime().availableProcessors();
 
     @Value("#{jobParameters['numOfRRatingTicket']}")
     private Long numOfRRatingTicket;
@@ -32,30 +28,26 @@ public class TicketCreatePartition implements Partitioner {
 
     @Value("#{jobParameters['numOfARatingTicket']}")
     private Long numOfARatingTicket;
+
+    @Value("#{jobParameters['gridSize']}")
+    private Long requestedGridSize;
+
     @Override
     public Map<String, ExecutionContext> partition(final int gridSize) {
+        final long totalSeats = numOfRRatingTicket + numOfSRatingTicket + numOfARatingTicket;
+        final long partitions = Math.max(1L, Math.min(totalSeats,
+            requestedGridSize == null ? gridSize : requestedGridSize));
         final Map<String, ExecutionContext> result = new HashMap<>();
-        final Map<String, Long> seatMap = Map.of(
-            "R", numOfRRatingTicket,
-            "S", numOfSRatingTicket,
-            "A", numOfARatingTicket
-        );
-
-        AtomicInteger atomicInteger = new AtomicInteger(0);
-        for (Entry<String, Long> entry : seatMap.entrySet()) {
-            ExecutionContext executionContext = new ExecutionContext();
-            String key = entry.getKey();
-            Long value = entry.getValue();
 
-            executionContext.put("concertId", concertId);
-            executionContext.put("concertDateId", concertDateId);
-            executionContext.put("numOfRow", numOfRow);
-            executionContext.put("seatRating", key);
-            executionContext.put("numOfSeat", value);
+        for (long i = 0; i < partitions; i++) {
+            ExecutionContext executionContext = new ExecutionContext();
+            executionContext.putLong(START_KEY, totalSeats * i / partitions);
+            executionContext.putLong(END_KEY, totalSeats * (i + 1) / partitions);
 
-            result.put("partition:" + atomicInteger.incrementAndGet(), executionContext);
+            result.put("partition:" + (i + 1), executionContext);
         }
 
+        log.info("{} seats split into {} partitions", totalSeats, partitions);
         return result;
     }
 }
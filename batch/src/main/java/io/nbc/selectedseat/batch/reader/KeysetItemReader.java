@@ -0,0 +1,91 @@
+package io.nbc.selectedseat.batch.reader;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.ItemStreamSupport;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+// pages with "WHERE key > ? ORDER BY key LIMIT ?" instead of OFFSET, so every page is an index
+// range scan from where the previous one stopped and rows changing behind it are never
+// skipped. The query ends with those two placeholders after its own parameters. Rows are
+// mapped straight to projections, and the last key read is saved for restarts
+public class KeysetItemReader<T> extends ItemStreamSupport implements ItemStreamReader<T> {
+
+    public static final String LAST_KEY = "lastKey";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String sql;
+    private final Object[] parameters;
+    private final RowMapper<T> rowMapper;
+    private final ToLongFunction<T> keyExtractor;
+    private final int pageSize;
+
+    private long lastKey;
+    private Iterator<T> page = Collections.emptyIterator();
+    private boolean lastPage;
+
+    KeysetItemReader(
+        final String name,
+        final JdbcTemplate jdbcTemplate,
+        final String sql,
+        final Object[] parameters,
+        final RowMapper<T> rowMapper,
+        final ToLongFunction<T> keyExtractor,
+        final int pageSize
+    ) {
+        setName(name);
+        this.jdbcTemplate = jdbcTemplate;
+        this.sql = sql;
+        this.parameters = parameters;
+        this.rowMapper = rowMapper;
+        this.keyExtractor = keyExtractor;
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public void open(final ExecutionContext executionContext) {
+        final String key = getExecutionContextKey(LAST_KEY);
+
+        this.lastKey = executionContext.containsKey(key) ? executionContext.getLong(key) : 0L;
+        this.page = Collections.emptyIterator();
+        this.lastPage = false;
+    }
+
+    @Override
+    public T read() {
+        if (!page.hasNext()) {
+            if (lastPage) {
+                return null;
+            }
+
+            fetchPage();
+            if (!page.hasNext()) {
+                return null;
+            }
+        }
+
+        final T item = page.next();
+        lastKey = keyExtractor.applyAsLong(item);
+        return item;
+    }
+
+    @Override
+    public void update(final ExecutionContext executionContext) {
+        executionContext.putLong(getExecutionContextKey(LAST_KEY), lastKey);
+    }
+
+    private void fetchPage() {
+        final Object[] args = Stream.concat(Stream.of(parameters), Stream.of(lastKey, pageSize))
+            .toArray();
+        final List<T> items = jdbcTemplate.query(sql, rowMapper, args);
+
+        this.lastPage = items.size() < pageSize;
+        this.page = items.iterator();
+    }
+}
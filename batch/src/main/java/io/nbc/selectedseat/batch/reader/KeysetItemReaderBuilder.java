@@ -0,0 +1,64 @@
+package io.nbc.selectedseat.batch.reader;
+
+import java.util.function.ToLongFunction;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.util.Assert;
+
+public class KeysetItemReaderBuilder<T> {
+
+    private String name;
+    private JdbcTemplate jdbcTemplate;
+    private String sql;
+    private Object[] parameters = new Object[0];
+    private RowMapper<T> rowMapper;
+    private ToLongFunction<T> keyExtractor;
+    private int pageSize = 1000;
+
+    public KeysetItemReaderBuilder<T> name(final String name) {
+        this.name = name;
+        return this;
+    }
+
+    public KeysetItemReaderBuilder<T> jdbcTemplate(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        return this;
+    }
+
+    public KeysetItemReaderBuilder<T> sql(final String sql) {
+        this.sql = sql;
+        return this;
+    }
+
+    public KeysetItemReaderBuilder<T> parameters(final Object... parameters) {
+        this.parameters = parameters;
+        return this;
+    }
+
+    public KeysetItemReaderBuilder<T> rowMapper(final RowMapper<T> rowMapper) {
+        this.rowMapper = rowMapper;
+        return this;
+    }
+
+    public KeysetItemReaderBuilder<T> keyExtractor(final ToLongFunction<T> keyExtractor) {
+        this.keyExtractor = keyExtractor;
+        return this;
+    }
+
+    public KeysetItemReaderBuilder<T> pageSize(final int pageSize) {
+        this.pageSize = pageSize;
+        return this;
+    }
+
+    public KeysetItemReader<T> build() {
+        Assert.hasText(name, "name is required");
+        Assert.notNull(jdbcTemplate, "jdbcTemplate is required");
+        Assert.hasText(sql, "sql is required");
+        Assert.notNull(rowMapper, "rowMapper is required");
+        Assert.notNull(keyExtractor, "keyExtractor is required");
+        Assert.isTrue(pageSize > 0, "pageSize must be positive");
+
+        return new KeysetItemReader<>(name, jdbcTemplate, sql, parameters, rowMapper,
+            keyExtractor, pageSize);
+    }
+}
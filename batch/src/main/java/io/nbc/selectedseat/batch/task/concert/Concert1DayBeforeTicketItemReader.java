@@ -0,0 +1,116 @@
+package io.nbc.selectedseat.batch.task.concert;
+
+import io.nbc.selectedseat.batch.reader.KeysetItemReader;
+import io.nbc.selectedseat.batch.reader.KeysetItemReaderBuilder;
+import io.nbc.selectedseat.batch.task.ticket.TicketRow;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// reads only tomorrow's tickets, one concert date at a time, with a keyset reader per date so
+// every page is a range scan of idx_tickets_concert_date_id whatever the size of the table.
+// The cursor lives in fields, so every step execution gets its own instance
+@StepScope
+@Component
+@RequiredArgsConstructor
+public class Concert1DayBeforeTicketItemReader implements
+    ItemStreamReader<TicketRow>,
+    StepExecutionListener {
+
+    public static final String CONCERT_DATE_ID_KEY = "concert1DayBeforeTicket.concertDateId";
+    public static final int PAGE_SIZE = 1000;
+
+    private static final String TICKET_SQL = """
+        SELECT ticket_id, concert_id, concert_date_id, ticket_rating, ticket_number
+        FROM tickets
+        WHERE concert_date_id = ? AND ticket_id > ?
+        ORDER BY ticket_id
+        LIMIT ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private Deque<Long> concertDateIds;
+    private Long concertDateId;
+    private KeysetItemReader<TicketRow> ticketReader;
+
+    @Override
+    public void beforeStep(final StepExecution stepExecution) {
+        Map<?, ?> concert1DayBeforeMap = (Map<?, ?>) stepExecution.getJobExecution()
+            .getExecutionContext()
+            .get("concertDate1DayBeforeItem");
+
+        this.concertDateIds = new ArrayDeque<>(concert1DayBeforeMap == null
+            ? List.of()
+            : concert1DayBeforeMap.keySet().stream()
+                .map(id -> Long.valueOf(id.toString()))
+                .sorted()
+                .toList());
+    }
+
+    @Override
+    public void open(final ExecutionContext executionContext) {
+        if (!executionContext.containsKey(CONCERT_DATE_ID_KEY)) {
+            nextConcertDate(new ExecutionContext());
+            return;
+        }
+
+        // a restart skips the dates that were finished and resumes after the last written ticket
+        final long savedConcertDateId = executionContext.getLong(CONCERT_DATE_ID_KEY);
+        while (!concertDateIds.isEmpty() && concertDateIds.peek() < savedConcertDateId) {
+            concertDateIds.poll();
+        }
+        nextConcertDate(concertDateIds.peek() != null && concertDateIds.peek() == savedConcertDateId
+            ? executionContext
+            : new ExecutionContext());
+    }
+
+    @Override
+    public TicketRow read() {
+        while (concertDateId != null) {
+            TicketRow ticket = ticketReader.read();
+            if (ticket != null) {
+                return ticket;
+            }
+
+            nextConcertDate(new ExecutionContext());
+        }
+
+        return null;
+    }
+
+    @Override
+    public void update(final ExecutionContext executionContext) {
+        if (concertDateId != null) {
+            executionContext.putLong(CONCERT_DATE_ID_KEY, concertDateId);
+            ticketReader.update(executionContext);
+        }
+    }
+
+    private void nextConcertDate(final ExecutionContext executionContext) {
+        this.concertDateId = concertDateIds.poll();
+        if (concertDateId == null) {
+            return;
+        }
+
+        this.ticketReader = new KeysetItemReaderBuilder<TicketRow>()
+            .name("concert1DayBeforeTicketItemReader")
+            .jdbcTemplate(jdbcTemplate)
+            .sql(TICKET_SQL)
+            .parameters(concertDateId)
+            .rowMapper(TicketRow::from)
+            .keyExtractor(TicketRow::ticketId)
+            .pageSize(PAGE_SIZE)
+            .build();
+        ticketReader.open(executionContext);
+    }
+}
@@ -1,12 +1,18 @@
 package io.nbc.selectedseat.batch.task.concert;
 
 import io.nbc.selectedseat.batch.task.ticket.SeatKeyInfo;
+import io.nbc.selectedseat.redis.seatmap.SeatMapKeys;
 import io.nbc.selectedseat.redis.service.RedissonService;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import org.springframework.batch.item.Chunk;
 import org.springframework.batch.item.ItemWriter;
 import org.springframework.stereotype.Component;
 
+// seats are appended to the layout in ticketId order, which fixes each seat's bit in the map.
+// The whole chunk is written in one pipelined round trip
 @Component
 @RequiredArgsConstructor
 public class Concert1DayBeforeTicketItemWriter implements
@@ -18,14 +24,13 @@ public class Concert1DayBeforeTicketItemWriter implements
     public void write(
         final Chunk<? extends SeatKeyInfo> chunk
     ) throws Exception {
-        chunk.forEach(key -> {
-            if (key != null) {
-                redissonService.setSeats(
-                    key.key(),
-                    key.hashKey(),
-                    true
-                );
-            }
-        });
+        Map<SeatMapKeys, Map<String, String>> seatMaps = new LinkedHashMap<>();
+        chunk.getItems().stream()
+            .filter(Objects::nonNull)
+            .forEach(seat -> seatMaps
+                .computeIfAbsent(seat.seatMapKeys(), keys -> new LinkedHashMap<>())
+                .put(seat.ticketId().toString(), seat.hashKey()));
+
+        redissonService.appendSeats(seatMaps);
     }
 }
@@ -1,6 +1,5 @@
 package io.nbc.selectedseat.batch.task.concert;
 
-import io.nbc.selectedseat.db.core.domain.concert.entity.ConcertDateEntity;
 import java.util.concurrent.ConcurrentHashMap;
 import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.StepExecutionListener;
@@ -11,14 +10,14 @@ import org.springframework.stereotype.Component;
 
 @Component
 public class ConcertDate1DayBeforeItemWriter implements
-    ItemWriter<ConcertDateEntity>,
+    ItemWriter<ConcertDateRow>,
     StepExecutionListener {
 
     private StepExecution stepExecution;
 
     @Override
     public void write(
-        final Chunk<? extends ConcertDateEntity> chunk
+        final Chunk<? extends ConcertDateRow> chunk
     ) throws Exception {
         ExecutionContext executionContext
             = this.stepExecution.getExecutionContext();
@@ -30,7 +29,7 @@ public class ConcertDate1DayBeforeItemWriter implements
         chunk.forEach(concertDate -> {
             assert concert1DaysBeforeStart != null;
             concert1DaysBeforeStart.put(
-                concertDate.getConcertDateId(),
+                concertDate.concertDateId(),
                 Boolean.TRUE
             );
         });
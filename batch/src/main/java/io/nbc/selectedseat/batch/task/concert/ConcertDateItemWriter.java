@@ -1,6 +1,5 @@
 package io.nbc.selectedseat.batch.task.concert;
 
-import io.nbc.selectedseat.db.core.domain.concert.entity.ConcertDateEntity;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import lombok.RequiredArgsConstructor;
@@ -14,13 +13,13 @@ import org.springframework.stereotype.Component;
 @Component
 @RequiredArgsConstructor
 public class ConcertDateItemWriter implements
-    ItemWriter<ConcertDateEntity>,
+    ItemWriter<ConcertDateRow>,
     StepExecutionListener {
 
     private StepExecution stepExecution;
 
     @Override
-    public void write(final Chunk<? extends ConcertDateEntity> chunk)
+    public void write(final Chunk<? extends ConcertDateRow> chunk)
         throws Exception {
         ExecutionContext executionContext = this.stepExecution.getExecutionContext();
         ConcurrentMap<Long, Boolean> concertExpiredMap =
@@ -30,7 +29,7 @@ public class ConcertDateItemWriter implements
         chunk.forEach(concertDate -> {
                 assert concertExpiredMap != null;
                 concertExpiredMap.put(
-                    concertDate.getConcertDateId(),
+                    concertDate.concertDateId(),
                     Boolean.TRUE
                 );
             }
@@ -0,0 +1,17 @@
+package io.nbc.selectedseat.batch.task.concert;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+public record ConcertDateRow(
+    Long concertDateId,
+    Long concertId
+) {
+
+    public static ConcertDateRow from(final ResultSet rs, final int rowNum) throws SQLException {
+        return new ConcertDateRow(
+            rs.getLong("concert_date_id"),
+            rs.getLong("concert_id")
+        );
+    }
+}
@@ -0,0 +1,281 @@
+package io.nbc.selectedseat.batch.task.reservation;
+
+import static io.nbc.selectedseat.domain.reservation.service.command.ReservationStreamWriter.RESERVATION_PENDING;
+import static io.nbc.selectedseat.domain.reservation.service.command.ReservationStreamWriter.RESERVATION_STREAM;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// drains write-behind reservations into MySQL. A batch that fails stays pending and is
+// retried record by record once idle; a record that keeps failing goes to the dead-letter stream,
+// and so does one whose id is already taken by a different reservation
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationStreamConsumer {
+
+    public static final String CONSUMER_GROUP = "reservation-writer";
+    public static final String DEAD_LETTER_STREAM = "reservation:stream:dead";
+    public static final String LAG_METRIC = "reservation.stream.lag";
+    public static final String PENDING_METRIC = "reservation.stream.pending";
+    public static final long BATCH_SIZE = 500L;
+    public static final long MAX_DELIVERIES = 5L;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+    private final String consumerName = "batch-" + UUID.randomUUID();
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final AtomicLong pendingCount = new AtomicLong();
+
+    @Value("${reservation.stream.retry-idle:30s}")
+    private Duration retryIdle;
+
+    @PostConstruct
+    public void init() {
+        createGroup();
+        Gauge.builder(LAG_METRIC, lagMillis, AtomicLong::get)
+            .baseUnit("milliseconds")
+            .register(meterRegistry);
+        Gauge.builder(PENDING_METRIC, pendingCount, AtomicLong::get)
+            .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelay = 5000, fixedDelay = 200)
+    public void drain() {
+        List<MapRecord<String, Object, Object>> records = stringRedisTemplate.opsForStream()
+            .read(Consumer.from(CONSUMER_GROUP, consumerName),
+                StreamReadOptions.empty().count(BATCH_SIZE),
+                StreamOffset.create(RESERVATION_STREAM, ReadOffset.lastConsumed()));
+        if (records == null || records.isEmpty()) {
+            return;
+        }
+
+        try {
+            persist(records);
+        } catch (RuntimeException e) {
+            log.warn("reservation stream batch failed, {} records left pending", records.size(), e);
+        }
+    }
+
+    @Scheduled(initialDelay = 5000, fixedDelay = 10000)
+    public void retry() {
+        updateMetrics();
+
+        PendingMessages pendingMessages = stringRedisTemplate.opsForStream()
+            .pending(RESERVATION_STREAM, CONSUMER_GROUP, Range.unbounded(), BATCH_SIZE);
+        if (pendingMessages == null || pendingMessages.isEmpty()) {
+            return;
+        }
+
+        List<PendingMessage> idle = pendingMessages.stream()
+            .filter(message -> message.getElapsedTimeSinceLastDelivery().compareTo(retryIdle) >= 0)
+            .toList();
+        if (idle.isEmpty()) {
+            return;
+        }
+
+        Set<String> exhausted = idle.stream()
+            .filter(message -> message.getTotalDeliveryCount() >= MAX_DELIVERIES)
+            .map(PendingMessage::getIdAsString)
+            .collect(Collectors.toSet());
+
+        List<MapRecord<String, Object, Object>> claimed = stringRedisTemplate.opsForStream()
+            .claim(RESERVATION_STREAM, CONSUMER_GROUP, consumerName, retryIdle,
+                idle.stream().map(PendingMessage::getId).toArray(RecordId[]::new));
+
+        for (MapRecord<String, Object, Object> record : claimed) {
+            if (exhausted.contains(record.getId().getValue())) {
+                deadLetter(record);
+                continue;
+            }
+
+            try {
+                persist(List.of(record));
+            } catch (RuntimeException e) {
+                log.warn("reservation stream record {} failed", record.getId(), e);
+            }
+        }
+    }
+
+    // the reservation id is the primary key, so a redelivered record is a no-op. A duplicate
+    // that differs from the stored row means two reservations share an id, and only the
+    // dead-letter stream keeps the second one from being dropped
+    private void persist(final List<MapRecord<String, Object, Object>> records) {
+        insert(records);
+
+        final Map<Long, Map<String, Object>> stored = load(records);
+        final Map<Boolean, List<MapRecord<String, Object, Object>>> byMatch = records.stream()
+            .collect(Collectors.partitioningBy(record ->
+                matches(record.getValue(), stored.get(reservationId(record)))));
+
+        acknowledge(byMatch.get(true));
+        byMatch.get(false).forEach(this::deadLetter);
+    }
+
+    private void insert(final List<MapRecord<String, Object, Object>> records) {
+        final LocalDateTime now = LocalDateTime.now();
+
+        jdbcTemplate.batchUpdate(insertSql(), records, records.size(),
+            (PreparedStatement ps, MapRecord<String, Object, Object> record) ->
+                bind(ps, record.getValue(), now));
+    }
+
+    private void bind(
+        final PreparedStatement ps,
+        final Map<Object, Object> values,
+        final LocalDateTime now
+    ) throws SQLException {
+        ps.setLong(1, Long.parseLong((String) values.get("reservationId")));
+        ps.setLong(2, Long.parseLong((String) values.get("concertId")));
+        ps.setLong(3, Long.parseLong((String) values.get("memberId")));
+        ps.setLong(4, Long.parseLong((String) values.get("ticketId")));
+        ps.setLong(5, Long.parseLong((String) values.get("ticketPriceId")));
+        ps.setString(6, "PROGRESS");
+        ps.setTimestamp(7, Timestamp.valueOf(LocalDateTime.parse((String) values.get("reservedAt"))));
+        ps.setTimestamp(8, Timestamp.valueOf(now));
+        ps.setTimestamp(9, Timestamp.valueOf(now));
+    }
+
+    private Map<Long, Map<String, Object>> load(
+        final List<MapRecord<String, Object, Object>> records
+    ) {
+        final Object[] ids = records.stream().map(ReservationStreamConsumer::reservationId)
+            .toArray();
+        final String placeholders = String.join(", ", Collections.nCopies(ids.length, "?"));
+
+        final Map<Long, Map<String, Object>> stored = new HashMap<>();
+        jdbcTemplate.queryForList("""
+                SELECT reservation_id, concert_id, member_id, ticket_id, ticket_price_id
+                FROM reservations
+                WHERE reservation_id IN (%s)
+                """.formatted(placeholders), ids)
+            .forEach(row -> stored.put(((Number) row.get("reservation_id")).longValue(), row));
+        return stored;
+    }
+
+    private static boolean matches(
+        final Map<Object, Object> values,
+        final Map<String, Object> row
+    ) {
+        return row != null
+            && sameId(values.get("concertId"), row.get("concert_id"))
+            && sameId(values.get("memberId"), row.get("member_id"))
+            && sameId(values.get("ticketId"), row.get("ticket_id"))
+            && sameId(values.get("ticketPriceId"), row.get("ticket_price_id"));
+    }
+
+    private static boolean sameId(final Object value, final Object column) {
+        return column != null
+            && Long.parseLong((String) value) == ((Number) column).longValue();
+    }
+
+    private static Long reservationId(final MapRecord<String, Object, Object> record) {
+        return Long.parseLong((String) record.getValue().get("reservationId"));
+    }
+
+    private void acknowledge(final List<MapRecord<String, Object, Object>> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+
+        RecordId[] ids = records.stream().map(MapRecord::getId).toArray(RecordId[]::new);
+        stringRedisTemplate.opsForStream().acknowledge(RESERVATION_STREAM, CONSUMER_GROUP, ids);
+        stringRedisTemplate.opsForStream().delete(RESERVATION_STREAM, ids);
+        stringRedisTemplate.delete(records.stream()
+            .map(record -> RESERVATION_PENDING.formatted(reservationId(record)))
+            .toList());
+    }
+
+    private void deadLetter(final MapRecord<String, Object, Object> record) {
+        log.error("reservation stream record {} moved to {}", record.getId(), DEAD_LETTER_STREAM);
+        stringRedisTemplate.opsForStream().add(StreamRecords.newRecord()
+            .in(DEAD_LETTER_STREAM)
+            .ofMap(record.getValue()));
+        acknowledge(List.of(record));
+    }
+
+    // lag is the age gap between the newest record and the last one handed to this group
+    private void updateMetrics() {
+        try {
+            String lastGeneratedId = stringRedisTemplate.opsForStream()
+                .info(RESERVATION_STREAM).lastGeneratedId();
+            stringRedisTemplate.opsForStream().groups(RESERVATION_STREAM).stream()
+                .filter(group -> CONSUMER_GROUP.equals(group.groupName()))
+                .findFirst()
+                .ifPresent(group -> {
+                    lagMillis.set(Math.max(0L, timestampOf(lastGeneratedId)
+                        - timestampOf(group.lastDeliveredId())));
+                    pendingCount.set(group.pendingCount());
+                });
+        } catch (RuntimeException e) {
+            log.warn("failed to read reservation stream metrics", e);
+        }
+    }
+
+    private void createGroup() {
+        try {
+            stringRedisTemplate.execute((RedisCallback<String>) connection ->
+                createGroup(connection));
+        } catch (RuntimeException e) {
+            // BUSYGROUP: another node created it first
+            log.debug("reservation stream group already exists", e);
+        }
+    }
+
+    private static String createGroup(final RedisConnection connection) {
+        return connection.streamCommands().xGroupCreate(
+            RESERVATION_STREAM.getBytes(StandardCharsets.UTF_8),
+            CONSUMER_GROUP,
+            ReadOffset.from("0"),
+            true
+        );
+    }
+
+    private static long timestampOf(final String recordId) {
+        return Long.parseLong(recordId.substring(0, recordId.indexOf('-')));
+    }
+
+    private static String insertSql() {
+        return """
+            INSERT INTO reservations (reservation_id, concert_id, member_id, ticket_id,
+                ticket_price_id, reservation_state, reserved_at, created_at, modified_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE reservation_id = reservation_id
+            """;
+    }
+}
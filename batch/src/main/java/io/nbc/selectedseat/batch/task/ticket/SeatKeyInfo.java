@@ -1,7 +1,10 @@
 package io.nbc.selectedseat.batch.task.ticket;
 
+import io.nbc.selectedseat.redis.seatmap.SeatMapKeys;
+
 public record SeatKeyInfo(
-    String key,
+    SeatMapKeys seatMapKeys,
+    Long ticketId,
     String hashKey
 ) {
 
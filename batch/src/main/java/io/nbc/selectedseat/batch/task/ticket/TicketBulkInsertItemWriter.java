@@ -0,0 +1,93 @@
+package io.nbc.selectedseat.batch.task.ticket;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+// one INSERT carries up to rowsPerStatement seats, so a chunk is parsed and logged as a few
+// statements instead of one per seat, without relying on the driver to rewrite the batch
+public class TicketBulkInsertItemWriter implements ItemWriter<TicketBatchEntity> {
+
+    public static final int DEFAULT_ROWS_PER_STATEMENT = 1000;
+
+    private static final String INSERT_SQL = """
+        INSERT INTO
+            tickets(concert_id, concert_date_id, ticket_rating, ticket_number, created_at, modified_at, deleted_at)
+        VALUES
+        """;
+    private static final String ROW_SQL = "(?, ?, ?, ?, ?, ?, ?)";
+    private static final int COLUMNS = 7;
+    // MySQL rejects a prepared statement with more than 65535 placeholders
+    public static final int MAX_ROWS_PER_STATEMENT = 65535 / COLUMNS;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int rowsPerStatement;
+    private final String fullStatementSql;
+
+    public TicketBulkInsertItemWriter(
+        final DataSource dataSource,
+        final long rowsPerStatement
+    ) {
+        if (rowsPerStatement < 1 || rowsPerStatement > MAX_ROWS_PER_STATEMENT) {
+            throw new IllegalArgumentException(
+                "rowsPerStatement는 1 이상 %d 이하여야 합니다: %d".formatted(
+                    MAX_ROWS_PER_STATEMENT, rowsPerStatement));
+        }
+
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.rowsPerStatement = (int) rowsPerStatement;
+        this.fullStatementSql = insertSql(this.rowsPerStatement);
+    }
+
+    @Override
+    public void write(final Chunk<? extends TicketBatchEntity> chunk) {
+        final List<? extends TicketBatchEntity> tickets = chunk.getItems();
+
+        for (int from = 0; from < tickets.size(); from += rowsPerStatement) {
+            final List<? extends TicketBatchEntity> rows = tickets.subList(from,
+                Math.min(from + rowsPerStatement, tickets.size()));
+            final String sql = rows.size() == rowsPerStatement
+                ? fullStatementSql
+                : insertSql(rows.size());
+
+            jdbcTemplate.update(sql, ps -> bind(ps, rows));
+        }
+    }
+
+    private static void bind(
+        final PreparedStatement ps,
+        final List<? extends TicketBatchEntity> rows
+    ) throws SQLException {
+        int column = 1;
+        for (TicketBatchEntity ticket : rows) {
+            ps.setLong(column++, ticket.getConcertId());
+            ps.setLong(column++, ticket.getConcertDateId());
+            ps.setString(column++, ticket.getTicketRating());
+            ps.setString(column++, ticket.getTicketNumber());
+            ps.setTimestamp(column++, toTimestamp(ticket.getCreatedAt()));
+            ps.setTimestamp(column++, toTimestamp(ticket.getModifiedAt()));
+            ps.setTimestamp(column++, toTimestamp(ticket.getDeletedAt()));
+        }
+    }
+
+    private static Timestamp toTimestamp(final LocalDateTime dateTime) {
+        return dateTime == null ? null : Timestamp.valueOf(dateTime);
+    }
+
+    private static String insertSql(final int rows) {
+        final StringBuilder sql = new StringBuilder(
+            INSERT_SQL.length() + rows * (ROW_SQL.length() + 2));
+        sql.append(INSERT_SQL);
+        for (int i = 0; i < rows; i++) {
+            sql.append(i == 0 ? "" : ",\n").append(ROW_SQL);
+        }
+
+        return sql.toString();
+    }
+}
@@ -1,32 +1,15 @@
 package io.nbc.selectedseat.batch.task.ticket;
 
-import static io.nbc.selectedseat.domain.ticket.model.TicketRating.A;
-import static io.nbc.selectedseat.domain.ticket.model.TicketRating.R;
-import static io.nbc.selectedseat.domain.ticket.model.TicketRating.S;
-
-import io.nbc.selectedseat.domain.ticket.model.TicketRating;
-import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.batch.core.StepExecution;
-import org.springframework.batch.core.StepExecutionListener;
 import org.springframework.batch.core.configuration.annotation.StepScope;
-import org.springframework.batch.item.ItemReader;
-import org.springframework.batch.item.NonTransientResourceException;
-import org.springframework.batch.item.ParseException;
-import org.springframework.batch.item.UnexpectedInputException;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 @StepScope
 @Component("ticketCreateItemReader")
 @RequiredArgsConstructor
-public class TicketCreateItemReader implements ItemReader<TicketBatchEntity>,
-    StepExecutionListener {
-
-    private Iterator<TicketBatchEntity> iterator;
+public class TicketCreateItemReader extends TicketSeatItemReader {
 
     @Value("#{jobParameters['concertId']}")
     private Long concertId;
@@ -46,64 +29,11 @@ public class TicketCreateItemReader implements ItemReader<TicketBatchEntity>,
     @Value("#{jobParameters['numOfARatingTicket']}")
     private Long numOfARatingTicket;
 
-    @Override
-    public TicketBatchEntity read()
-        throws Exception, UnexpectedInputException, ParseException, NonTransientResourceException {
-        if (!iterator.hasNext()) {
-            return null;
-        }
-
-        return iterator.next();
-    }
-
     @Override
     public void beforeStep(final StepExecution stepExecution) {
-        List<TicketBatchEntity> allSeats = new ArrayList<>();
-
-        allSeats.addAll(
-            generateTicketsByRating(numOfRRatingTicket, numOfRow, R, concertId,
-                concertDateId)
-        );
-
-        allSeats.addAll(
-            generateTicketsByRating(numOfSRatingTicket, numOfRow, S, concertId,
-                concertDateId)
-        );
-
-        allSeats.addAll(
-            generateTicketsByRating(numOfARatingTicket, numOfRow, A, concertId,
-                concertDateId)
-        );
-
-        this.iterator = allSeats.iterator();
-    }
-
-    private List<TicketBatchEntity> generateTicketsByRating(
-        final Long numOfSeats,
-        final Long numOfRow,
-        final TicketRating ticketRating,
-        final Long concertId,
-        final Long concertDateId
-    ) {
-
-        List<TicketBatchEntity> ticketBatchEntities = new ArrayList<>();
-
-        for (int i = 0; i < numOfSeats; i++) {
-            String ticketNumber =
-                ((i / numOfRow) + 1) + ":" + ((i % numOfRow) + 1);
-
-            LocalDateTime now = LocalDateTime.now();
-
-            ticketBatchEntities.add(TicketBatchEntity.builder()
-                .createdAt(now)
-                .modifiedAt(now)
-                .ticketRating(ticketRating.toString())
-                .ticketNumber(ticketNumber)
-                .concertId(concertId)
-                .concertDateId(concertDateId)
-                .build());
-        }
+        TicketSeatGenerator generator = TicketSeatGenerator.of(concertId, concertDateId,
+            numOfRow, numOfRRatingTicket, numOfSRatingTicket, numOfARatingTicket);
 
-        return ticketBatchEntities;
+        init(generator, 0, generator.size());
     }
 }
@@ -0,0 +1,133 @@
+package io.nbc.selectedseat.batch.task.ticket;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// expires the tickets of every past concert date with set-based UPDATEs. Each call covers at
+// most RANGE_SIZE ticket ids of one date, so every statement is a short primary-key range
+// and its locks are released before the next one starts. The position is saved per call and
+// kept in fields, so every step execution gets its own instance
+@Slf4j
+@StepScope
+@Component
+@RequiredArgsConstructor
+public class TicketExpireTasklet implements Tasklet, StepExecutionListener {
+
+    public static final String CONCERT_DATE_ID_KEY = "ticketExpire.concertDateId";
+    public static final String NEXT_TICKET_ID_KEY = "ticketExpire.nextTicketId";
+    public static final long RANGE_SIZE = 5000L;
+
+    private static final String TICKET_RANGE_SQL = """
+        SELECT MIN(ticket_id) AS min_ticket_id, MAX(ticket_id) AS max_ticket_id
+        FROM tickets
+        WHERE concert_date_id = ? AND deleted_at IS NULL
+        """;
+
+    private static final String TICKET_EXPIRE_SQL = """
+        UPDATE tickets
+        SET deleted_at = ?
+        WHERE concert_date_id = ? AND ticket_id BETWEEN ? AND ? AND deleted_at IS NULL
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private Deque<Long> concertDateIds;
+    private Long concertDateId;
+    private long nextTicketId;
+    private long maxTicketId;
+    private Timestamp deletedAt;
+
+    @Override
+    public void beforeStep(final StepExecution stepExecution) {
+        Map<?, ?> concertExpiredMap = (Map<?, ?>) stepExecution.getJobExecution()
+            .getExecutionContext()
+            .get("concertExpiredMap");
+
+        this.concertDateIds = new ArrayDeque<>(concertExpiredMap == null
+            ? List.of()
+            : concertExpiredMap.keySet().stream()
+                .map(id -> Long.valueOf(id.toString()))
+                .sorted()
+                .toList());
+        this.concertDateId = null;
+        this.deletedAt = Timestamp.valueOf(LocalDateTime.now());
+
+        // a restart skips the dates that were finished and resumes at the saved ticket id
+        ExecutionContext executionContext = stepExecution.getExecutionContext();
+        if (executionContext.containsKey(CONCERT_DATE_ID_KEY)) {
+            final long savedConcertDateId = executionContext.getLong(CONCERT_DATE_ID_KEY);
+            while (!concertDateIds.isEmpty() && concertDateIds.peek() < savedConcertDateId) {
+                concertDateIds.poll();
+            }
+            if (nextConcertDate() && concertDateId == savedConcertDateId) {
+                nextTicketId = Math.max(nextTicketId,
+                    executionContext.getLong(NEXT_TICKET_ID_KEY));
+            }
+        }
+    }
+
+    @Override
+    public RepeatStatus execute(
+        final StepContribution contribution,
+        final ChunkContext chunkContext
+    ) {
+        if (concertDateId == null && !nextConcertDate()) {
+            return RepeatStatus.FINISHED;
+        }
+
+        if (nextTicketId > maxTicketId) {
+            concertDateId = null;
+            return RepeatStatus.CONTINUABLE;
+        }
+
+        final long toTicketId = Math.min(maxTicketId, nextTicketId + RANGE_SIZE - 1);
+        final int expired = jdbcTemplate.update(TICKET_EXPIRE_SQL,
+            deletedAt, concertDateId, nextTicketId, toTicketId);
+        contribution.incrementWriteCount(expired);
+        nextTicketId = toTicketId + 1;
+
+        ExecutionContext executionContext = chunkContext.getStepContext()
+            .getStepExecution()
+            .getExecutionContext();
+        executionContext.putLong(CONCERT_DATE_ID_KEY, concertDateId);
+        executionContext.putLong(NEXT_TICKET_ID_KEY, nextTicketId);
+        return RepeatStatus.CONTINUABLE;
+    }
+
+    // moves to the next date that still has live tickets and bounds its ticket id range
+    private boolean nextConcertDate() {
+        while (!concertDateIds.isEmpty()) {
+            concertDateId = concertDateIds.poll();
+            Long[] range = jdbcTemplate.queryForObject(TICKET_RANGE_SQL,
+                (rs, rowNum) -> new Long[]{
+                    rs.getObject("min_ticket_id", Long.class),
+                    rs.getObject("max_ticket_id", Long.class)
+                },
+                concertDateId);
+            if (range != null && range[0] != null) {
+                nextTicketId = range[0];
+                maxTicketId = range[1];
+                return true;
+            }
+        }
+
+        concertDateId = null;
+        return false;
+    }
+}
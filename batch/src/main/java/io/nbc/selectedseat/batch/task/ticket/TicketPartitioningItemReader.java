@@ -1,26 +1,19 @@
 package io.nbc.selectedseat.batch.task.ticket;
 
-import io.nbc.selectedseat.domain.ticket.model.TicketRating;
-import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
+import static io.nbc.selectedseat.batch.partition.TicketCreatePartition.END_KEY;
+import static io.nbc.selectedseat.batch.partition.TicketCreatePartition.START_KEY;
+
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.StepExecution;
-import org.springframework.batch.core.StepExecutionListener;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.item.ExecutionContext;
-import org.springframework.batch.item.ItemReader;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @StepScope
 @Component
-public class TicketPartitioningItemReader implements StepExecutionListener,
-    ItemReader<TicketBatchEntity> {
-
-    private Iterator<TicketBatchEntity> iterator;
+public class TicketPartitioningItemReader extends TicketSeatItemReader {
 
     @Value("#{jobParameters['concertId']}")
     private Long concertId;
@@ -31,58 +24,22 @@ public class TicketPartitioningItemReader implements StepExecutionListener,
     @Value("#{jobParameters['numOfRow']}")
     private Long numOfRow;
 
-    @Override
-    public void beforeStep(final StepExecution stepExecution) {
-        ExecutionContext executionContext = stepExecution.getExecutionContext();
-        Long numOfSeat = (Long) executionContext.get("numOfSeat");
-        TicketRating seatRating = TicketRating.valueOf(
-            (String) executionContext.get("seatRating"));
-        List<TicketBatchEntity> ticketBatchEntities = generateTicketsByRating(
-            numOfSeat,
-            numOfRow,
-            seatRating,
-            concertId,
-            concertDateId
-        );
-
-        this.iterator = ticketBatchEntities.iterator();
-    }
-
-    @Override
-    public TicketBatchEntity read() throws Exception {
-        if (!iterator.hasNext()) {
-            return null;
-        }
-
-        return iterator.next();
-    }
-
-    private List<TicketBatchEntity> generateTicketsByRating(
-        final Long numOfSeats,
-        final Long numOfRow,
-        final TicketRating ticketRating,
-        final Long concertId,
-        final Long concertDateId
-    ) {
+    @Value("#{jobParameters['numOfRRatingTicket']}")
+    private Long numOfRRatingTicket;
 
-        List<TicketBatchEntity> ticketBatchEntities = new ArrayList<>();
+    @Value("#{jobParameters['numOfSRatingTicket']}")
+    private Long numOfSRatingTicket;
 
-        for (int i = 0; i < numOfSeats; i++) {
-            String ticketNumber =
-                ((i / numOfRow) + 1) + ":" + ((i % numOfRow) + 1);
+    @Value("#{jobParameters['numOfARatingTicket']}")
+    private Long numOfARatingTicket;
 
-            LocalDateTime now = LocalDateTime.now();
-
-            ticketBatchEntities.add(TicketBatchEntity.builder()
-                .createdAt(now)
-                .modifiedAt(now)
-                .ticketRating(ticketRating.toString())
-                .ticketNumber(ticketNumber)
-                .concertId(concertId)
-                .concertDateId(concertDateId)
-                .build());
-        }
+    @Override
+    public void beforeStep(final StepExecution stepExecution) {
+        ExecutionContext executionContext = stepExecution.getExecutionContext();
 
-        return ticketBatchEntities;
+        init(TicketSeatGenerator.of(concertId, concertDateId, numOfRow,
+                numOfRRatingTicket, numOfSRatingTicket, numOfARatingTicket),
+            executionContext.getLong(START_KEY),
+            executionContext.getLong(END_KEY));
     }
 }
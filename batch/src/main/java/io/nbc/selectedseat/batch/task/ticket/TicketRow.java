@@ -0,0 +1,23 @@
+package io.nbc.selectedseat.batch.task.ticket;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+public record TicketRow(
+    Long ticketId,
+    Long concertId,
+    Long concertDateId,
+    String ticketRating,
+    String ticketNumber
+) {
+
+    public static TicketRow from(final ResultSet rs, final int rowNum) throws SQLException {
+        return new TicketRow(
+            rs.getLong("ticket_id"),
+            rs.getLong("concert_id"),
+            rs.getLong("concert_date_id"),
+            rs.getString("ticket_rating"),
+            rs.getString("ticket_number")
+        );
+    }
+}
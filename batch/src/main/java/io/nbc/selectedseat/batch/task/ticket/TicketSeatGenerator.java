@@ -0,0 +1,78 @@
+package io.nbc.selectedseat.batch.task.ticket;
+
+import io.nbc.selectedseat.domain.ticket.model.TicketRating;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+
+// seat N of a concert date is computed from its index alone: ratings are laid out in enum
+// order and each rating is filled row by row, so no seat exists before a reader asks for it
+public class TicketSeatGenerator {
+
+    private final Long concertId;
+    private final Long concertDateId;
+    private final long numOfRow;
+    private final TicketRating[] ratings;
+    private final long[] offsets;
+    private final long size;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+
+    public TicketSeatGenerator(
+        final Long concertId,
+        final Long concertDateId,
+        final Long numOfRow,
+        final Map<TicketRating, Long> numOfSeats
+    ) {
+        this.concertId = concertId;
+        this.concertDateId = concertDateId;
+        this.numOfRow = numOfRow;
+        this.ratings = new TicketRating[numOfSeats.size()];
+        this.offsets = new long[numOfSeats.size()];
+
+        int i = 0;
+        long offset = 0;
+        for (Map.Entry<TicketRating, Long> entry : new EnumMap<>(numOfSeats).entrySet()) {
+            ratings[i] = entry.getKey();
+            offsets[i] = offset;
+            offset += entry.getValue();
+            i++;
+        }
+        this.size = offset;
+    }
+
+    public static TicketSeatGenerator of(
+        final Long concertId,
+        final Long concertDateId,
+        final Long numOfRow,
+        final Long numOfRRatingTicket,
+        final Long numOfSRatingTicket,
+        final Long numOfARatingTicket
+    ) {
+        return new TicketSeatGenerator(concertId, concertDateId, numOfRow, Map.of(
+            TicketRating.R, numOfRRatingTicket,
+            TicketRating.S, numOfSRatingTicket,
+            TicketRating.A, numOfARatingTicket
+        ));
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public TicketBatchEntity seatAt(final long index) {
+        int rating = ratings.length - 1;
+        while (offsets[rating] > index) {
+            rating--;
+        }
+
+        final long seat = index - offsets[rating];
+        return TicketBatchEntity.builder()
+            .createdAt(createdAt)
+            .modifiedAt(createdAt)
+            .ticketRating(ratings[rating].toString())
+            .ticketNumber(((seat / numOfRow) + 1) + ":" + ((seat % numOfRow) + 1))
+            .concertId(concertId)
+            .concertDateId(concertDateId)
+            .build();
+    }
+}
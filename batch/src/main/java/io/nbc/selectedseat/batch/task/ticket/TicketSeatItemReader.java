@@ -0,0 +1,59 @@
+package io.nbc.selectedseat.batch.task.ticket;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamReader;
+
+// hands out seat indexes from a shared cursor, so concurrent readers never block each other
+// and memory stays flat however large the hall is. The cursor is saved after every chunk;
+// beforeStep sets the range and open then moves the cursor to where a failed run stopped
+public abstract class TicketSeatItemReader implements
+    ItemStreamReader<TicketBatchEntity>,
+    StepExecutionListener {
+
+    public static final String CURSOR_KEY = "ticketSeat.cursor";
+
+    private final AtomicLong cursor = new AtomicLong();
+
+    private TicketSeatGenerator generator;
+    private long end;
+
+    protected void init(
+        final TicketSeatGenerator generator,
+        final long start,
+        final long end
+    ) {
+        this.generator = generator;
+        this.cursor.set(start);
+        this.end = end;
+    }
+
+    @Override
+    public TicketBatchEntity read() {
+        final long index = cursor.getAndIncrement();
+        if (index >= end) {
+            return null;
+        }
+
+        return generator.seatAt(index);
+    }
+
+    @Override
+    public void open(final ExecutionContext executionContext) {
+        if (isSaveState() && executionContext.containsKey(CURSOR_KEY)) {
+            cursor.set(executionContext.getLong(CURSOR_KEY));
+        }
+    }
+
+    @Override
+    public void update(final ExecutionContext executionContext) {
+        if (isSaveState()) {
+            executionContext.putLong(CURSOR_KEY, Math.min(cursor.get(), end));
+        }
+    }
+
+    protected boolean isSaveState() {
+        return true;
+    }
+}
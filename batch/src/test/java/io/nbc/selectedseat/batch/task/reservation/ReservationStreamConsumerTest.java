@@ -0,0 +1,222 @@
+package io.nbc.selectedseat.batch.task.reservation;
+
+import static io.nbc.selectedseat.batch.task.reservation.ReservationStreamConsumer.CONSUMER_GROUP;
+import static io.nbc.selectedseat.batch.task.reservation.ReservationStreamConsumer.DEAD_LETTER_STREAM;
+import static io.nbc.selectedseat.batch.task.reservation.ReservationStreamConsumer.MAX_DELIVERIES;
+import static io.nbc.selectedseat.domain.reservation.service.command.ReservationStreamWriter.RESERVATION_PENDING;
+import static io.nbc.selectedseat.domain.reservation.service.command.ReservationStreamWriter.RESERVATION_STREAM;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import redis.embedded.RedisServer;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class ReservationStreamConsumerTest {
+
+    private static final int REDIS_PORT = 16389;
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate stringRedisTemplate;
+
+    private JdbcTemplate jdbcTemplate;
+    private ReservationStreamConsumer reservationStreamConsumer;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        redisServer = new RedisServer(REDIS_PORT);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory("localhost", REDIS_PORT);
+        connectionFactory.afterPropertiesSet();
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+            "jdbc:h2:mem:reservation-stream;MODE=MySQL;DB_CLOSE_DELAY=-1"));
+        createTable();
+
+        reservationStreamConsumer = new ReservationStreamConsumer(
+            stringRedisTemplate, jdbcTemplate, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(reservationStreamConsumer, "retryIdle", Duration.ZERO);
+        reservationStreamConsumer.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS reservations");
+        stringRedisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+    }
+
+    @Nested
+    class drain_예약_적재_테스트 {
+
+        @Test
+        void 적재된_예약은_저장하고_스트림에서_확인_처리한다() {
+            //given
+            append(1L, 10L);
+
+            //when
+            reservationStreamConsumer.drain();
+
+            //then
+            assertThat(memberOf(1L)).isEqualTo(10L);
+            assertThat(stringRedisTemplate.opsForStream().size(RESERVATION_STREAM)).isZero();
+            assertThat(pendingCount()).isZero();
+            assertThat(stringRedisTemplate.hasKey(RESERVATION_PENDING.formatted(1L))).isFalse();
+        }
+
+        @Test
+        void 같은_예약이_다시_전달되면_한_번만_저장한다() {
+            //given
+            append(1L, 10L);
+            append(1L, 10L);
+
+            //when
+            reservationStreamConsumer.drain();
+
+            //then
+            assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM reservations", Long.class)).isEqualTo(1L);
+            assertThat(pendingCount()).isZero();
+            assertThat(stringRedisTemplate.opsForStream().size(DEAD_LETTER_STREAM)).isZero();
+        }
+
+        @Test
+        void 같은_id에_다른_예약이_있으면_dead_letter로_보낸다() {
+            //given
+            append(1L, 10L);
+            reservationStreamConsumer.drain();
+            append(1L, 20L);
+
+            //when
+            reservationStreamConsumer.drain();
+
+            //then
+            assertThat(memberOf(1L)).isEqualTo(10L);
+            assertThat(pendingCount()).isZero();
+            assertThat(stringRedisTemplate.opsForStream().size(DEAD_LETTER_STREAM)).isEqualTo(1L);
+        }
+    }
+
+    @Nested
+    class retry_실패한_예약_재처리_테스트 {
+
+        @Test
+        void 실패한_예약은_유휴_시간이_지나면_다시_저장한다() {
+            //given
+            append(1L, 10L);
+            jdbcTemplate.execute("DROP TABLE reservations");
+            reservationStreamConsumer.drain();
+            createTable();
+
+            //when
+            reservationStreamConsumer.retry();
+
+            //then
+            assertThat(memberOf(1L)).isEqualTo(10L);
+            assertThat(pendingCount()).isZero();
+        }
+
+        @Test
+        void 전달_횟수를_모두_실패하면_dead_letter로_보낸다() {
+            //given
+            stringRedisTemplate.opsForStream().add(StreamRecords.newRecord()
+                .in(RESERVATION_STREAM)
+                .ofMap(fields(1L, 10L, "invalid")));
+            reservationStreamConsumer.drain();
+
+            //when
+            for (long delivery = 1; delivery < MAX_DELIVERIES; delivery++) {
+                reservationStreamConsumer.retry();
+            }
+            long deadBeforeLast = stringRedisTemplate.opsForStream().size(DEAD_LETTER_STREAM);
+            reservationStreamConsumer.retry();
+
+            //then
+            assertThat(deadBeforeLast).isZero();
+            assertThat(stringRedisTemplate.opsForStream().size(DEAD_LETTER_STREAM)).isEqualTo(1L);
+            assertThat(pendingCount()).isZero();
+        }
+    }
+
+    private void append(final Long reservationId, final Long memberId) {
+        stringRedisTemplate.opsForStream().add(StreamRecords.newRecord()
+            .in(RESERVATION_STREAM)
+            .ofMap(fields(reservationId, memberId, "1")));
+        stringRedisTemplate.opsForValue().set(
+            RESERVATION_PENDING.formatted(reservationId), memberId.toString());
+    }
+
+    private static Map<String, String> fields(
+        final Long reservationId,
+        final Long memberId,
+        final String ticketPriceId
+    ) {
+        return Map.of(
+            "reservationId", reservationId.toString(),
+            "concertId", "1",
+            "memberId", memberId.toString(),
+            "ticketId", "1",
+            "ticketPriceId", ticketPriceId,
+            "reservedAt", LocalDateTime.now().toString()
+        );
+    }
+
+    private Long memberOf(final Long reservationId) {
+        return jdbcTemplate.queryForObject(
+            "SELECT member_id FROM reservations WHERE reservation_id = ?",
+            Long.class, reservationId);
+    }
+
+    private long pendingCount() {
+        return stringRedisTemplate.opsForStream()
+            .pending(RESERVATION_STREAM, CONSUMER_GROUP)
+            .getTotalPendingMessages();
+    }
+
+    private void createTable() {
+        jdbcTemplate.execute("""
+            CREATE TABLE IF NOT EXISTS reservations (
+                reservation_id BIGINT PRIMARY KEY,
+                concert_id BIGINT,
+                member_id BIGINT,
+                ticket_id BIGINT,
+                ticket_price_id BIGINT,
+                reservation_state VARCHAR(20),
+                reserved_at TIMESTAMP,
+                created_at TIMESTAMP,
+                modified_at TIMESTAMP
+            )
+            """);
+    }
+}
@@ -0,0 +1,110 @@
+package io.nbc.selectedseat.batch.task.ticket;
+
+import static io.nbc.selectedseat.batch.task.ticket.TicketBulkInsertItemWriter.MAX_ROWS_PER_STATEMENT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.batch.item.Chunk;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class TicketBulkInsertItemWriterTest {
+
+    private DataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:ticket-bulk-insert;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+            CREATE TABLE IF NOT EXISTS tickets (
+                ticket_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                concert_id BIGINT NOT NULL,
+                concert_date_id BIGINT NOT NULL,
+                ticket_rating VARCHAR(255) NOT NULL,
+                ticket_number VARCHAR(255) NOT NULL,
+                created_at DATETIME(6),
+                modified_at DATETIME(6),
+                deleted_at DATETIME(6)
+            )
+            """);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS tickets");
+    }
+
+    @Nested
+    class write_좌석_적재_테스트 {
+
+        @Test
+        void 청크가_문장당_행_수로_나누어_떨어지지_않아도_모든_좌석을_저장한다() {
+            //given
+            final TicketBulkInsertItemWriter writer = new TicketBulkInsertItemWriter(dataSource, 3);
+            final Chunk<TicketBatchEntity> chunk = new Chunk<>(tickets(7));
+
+            //when
+            writer.write(chunk);
+
+            //then
+            assertThat(jdbcTemplate.queryForList(
+                "SELECT ticket_number FROM tickets ORDER BY ticket_id", String.class))
+                .containsExactly("S1", "S2", "S3", "S4", "S5", "S6", "S7");
+        }
+    }
+
+    @Nested
+    class 생성자_문장당_행_수_검증_테스트 {
+
+        @ParameterizedTest
+        @ValueSource(longs = {0L, -1L, MAX_ROWS_PER_STATEMENT + 1L})
+        void 범위를_벗어난_문장당_행_수는_거부한다(final long rowsPerStatement) {
+            assertThatThrownBy(() -> new TicketBulkInsertItemWriter(dataSource, rowsPerStatement))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void 자리표시자_한도까지의_문장당_행_수는_허용한다() {
+            //given
+            final TicketBulkInsertItemWriter writer = new TicketBulkInsertItemWriter(
+                dataSource, MAX_ROWS_PER_STATEMENT);
+
+            //when
+            writer.write(new Chunk<>(tickets(2)));
+
+            //then
+            assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM tickets", Long.class)).isEqualTo(2L);
+        }
+    }
+
+    private static List<TicketBatchEntity> tickets(final int count) {
+        final LocalDateTime now = LocalDateTime.now();
+        return LongStream.rangeClosed(1, count)
+            .mapToObj(number -> TicketBatchEntity.builder()
+                .concertId(1L)
+                .concertDateId(1L)
+                .ticketRating("S")
+                .ticketNumber("S" + number)
+                .createdAt(now)
+                .modifiedAt(now)
+                .build())
+            .toList();
+    }
+}
@@ -0,0 +1,27 @@
+package io.nbc.selectedseat.util.queue;
+
+import java.time.Duration;
+
+// the queue service admits members and the web tier extends their admission on every seat
+// call, so both read the proceed set through these keys, this lease and this script
+public final class AdmissionQueue {
+
+    public static final String SEAT_QUEUE = "seat";
+    public static final String PROCEED_QUEUE = "user:queue:%s:proceed";
+    public static final Duration PROCEED_TTL = Duration.ofMinutes(5);
+
+    // proceed scores are deadlines; only a member whose deadline has not passed is extended.
+    // KEYS[1] is the proceed set, ARGV is member, now and the new deadline in epoch millis
+    public static final String EXTEND_ADMISSION_SCRIPT = """
+        local deadline = redis.call('ZSCORE', KEYS[1], ARGV[1])
+        if deadline and tonumber(deadline) >= tonumber(ARGV[2]) then
+            redis.call('ZADD', KEYS[1], ARGV[3], ARGV[1])
+            return 1
+        end
+
+        return 0
+        """;
+
+    private AdmissionQueue() {
+    }
+}
@@ -0,0 +1,25 @@
+package io.nbc.selectedseat.util.queue;
+
+// every web node writes "<node>:<metric>" fields of one hash and the queue throttle reads them
+// all back, so both sides build the key and the field names here
+public final class BackendHealthKeys {
+
+    public static final String BACKEND_HEALTH = "queue:backend:health";
+    public static final char NODE_SEPARATOR = ':';
+
+    public static final String REQUESTS = "requests";
+    public static final String FAILURES = "failures";
+    public static final String P99_MILLIS = "p99Millis";
+    public static final String POOL_SATURATION = "poolSaturation";
+    public static final String PUBLISHED_AT = "publishedAt";
+
+    private BackendHealthKeys() {
+    }
+
+    public static String field(
+        final String node,
+        final String metric
+    ) {
+        return node + NODE_SEPARATOR + metric;
+    }
+}
@@ -0,0 +1,13 @@
+package io.nbc.selectedseat.util.seat;
+
+// a seat map's change log is also the pub/sub channel its flips are published on; the web
+// tier writes it, and the near-cache and the queue service's seat stream subscribe to it
+public final class SeatChannel {
+
+    public static final String SEAT_CHANNEL =
+        "seatChanges:concertId:%d:concertDate:%d:ticketRating:%s";
+    public static final String SEAT_CHANNEL_PATTERN = "seatChanges:*";
+
+    private SeatChannel() {
+    }
+}
@@ -27,5 +27,9 @@ public interface ReservationRepository {
 
     void deleteReservation(final Long id);
 
+    boolean isCompletedTicket(final Long ticketId);
+
+    Long getLastReservationId();
+
     List<Reservation> getReservationByMemberId(final Long memberId);
 }
@@ -5,6 +5,7 @@ import io.nbc.selectedseat.db.core.domain.reservation.entity.ReservationEntity;
 import io.nbc.selectedseat.db.core.domain.reservation.repository.ReservationJpaRepository;
 import io.nbc.selectedseat.db.core.domain.reservation.repository.ReservationMongoRepository;
 import io.nbc.selectedseat.domain.reservation.model.Reservation;
+import io.nbc.selectedseat.domain.reservation.model.ReservationState;
 import io.nbc.selectedseat.domain.reservation.repository.ReservationRepository;
 import io.nbc.selectedseat.domain.ticket.model.TicketRating;
 import java.time.LocalDateTime;
@@ -22,8 +23,9 @@ public class ReservationPersistenceAdapter implements ReservationRepository {
 
     @Override
     public Long createReservation(final Reservation reservation) {
+        // flushed here so a duplicate completion fails inside the caller, not at commit
         return reservationJpaRepository
-            .save(ReservationEntity.from(reservation))
+            .saveAndFlush(ReservationEntity.from(reservation))
             .getReservationId();
     }
 
@@ -71,6 +73,19 @@ public class ReservationPersistenceAdapter implements ReservationRepository {
         reservationJpaRepository.deleteById(id);
     }
 
+    @Override
+    public boolean isCompletedTicket(final Long ticketId) {
+        return reservationJpaRepository.existsByTicketIdAndReservationState(
+            ticketId,
+            ReservationState.COMPLETED
+        );
+    }
+
+    @Override
+    public Long getLastReservationId() {
+        return reservationJpaRepository.findLastReservationId();
+    }
+
     @Override
     public List<Reservation> getReservationByMemberId(final Long memberId) {
         return reservationJpaRepository.findByMemberId(memberId)
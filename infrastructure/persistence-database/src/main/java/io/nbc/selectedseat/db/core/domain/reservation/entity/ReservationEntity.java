@@ -48,6 +48,10 @@ public class ReservationEntity extends BaseEntity {
     @Column(name = "reservation_state", nullable = false)
     public ReservationState reservationState;
 
+    // set only while COMPLETED, so the unique index allows one completed reservation per ticket
+    @Column(name = "completed_ticket_id", unique = true)
+    public Long completedTicketId;
+
     @CreatedDate
     @Column(updatable = false)
     public LocalDateTime reservedAt;
@@ -60,6 +64,10 @@ public class ReservationEntity extends BaseEntity {
             .ticketId(reservation.getTicketId())
             .ticketPriceId(reservation.getTicketPriceId())
             .reservationState(reservation.getReservationState())
+            .completedTicketId(
+                reservation.getReservationState() == ReservationState.COMPLETED
+                    ? reservation.getTicketId()
+                    : null)
             .build();
     }
 
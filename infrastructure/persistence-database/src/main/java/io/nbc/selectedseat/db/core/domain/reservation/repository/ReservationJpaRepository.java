@@ -1,10 +1,20 @@
 package io.nbc.selectedseat.db.core.domain.reservation.repository;
 
 import io.nbc.selectedseat.db.core.domain.reservation.entity.ReservationEntity;
+import io.nbc.selectedseat.domain.reservation.model.ReservationState;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface ReservationJpaRepository extends JpaRepository<ReservationEntity, Long> {
 
     List<ReservationEntity> findByMemberId(final Long memberId);
+
+    boolean existsByTicketIdAndReservationState(
+        final Long ticketId,
+        final ReservationState reservationState
+    );
+
+    @Query("select coalesce(max(r.reservationId), 0) from ReservationEntity r")
+    Long findLastReservationId();
 }
@@ -0,0 +1,125 @@
+package io.nbc.selectedseat.redis.serializer;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+// ./gradlew :infrastructure:persistence-redis-adapter:jmh
+// payload sizes are printed once per trial, next to the throughput numbers
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RedisSerializerBenchmark {
+
+    // same shape as GetConcertResponseDTO in the application module
+    public record Concert(
+        Long concertId,
+        Long ratingId,
+        Long stateId,
+        Long regionId,
+        Long categoryId,
+        String name,
+        LocalDateTime startedAt,
+        LocalDateTime endedAt,
+        String thumbnail,
+        String hall,
+        Long ticketAmount
+    ) implements Serializable {
+
+    }
+
+    public static class ConcertCodec implements BinaryCodec<Concert> {
+
+        @Override
+        public int tag() {
+            return 16;
+        }
+
+        @Override
+        public Class<Concert> type() {
+            return Concert.class;
+        }
+
+        @Override
+        public void write(final BinaryOutput out, final Concert value) {
+            out.writeLong(value.concertId());
+            out.writeLong(value.ratingId());
+            out.writeLong(value.stateId());
+            out.writeLong(value.regionId());
+            out.writeLong(value.categoryId());
+            out.writeString(value.name());
+            out.writeDateTime(value.startedAt());
+            out.writeDateTime(value.endedAt());
+            out.writeString(value.thumbnail());
+            out.writeString(value.hall());
+            out.writeLong(value.ticketAmount());
+        }
+
+        @Override
+        public Concert read(final BinaryInput in) {
+            return new Concert(in.readLong(), in.readLong(), in.readLong(), in.readLong(),
+                in.readLong(), in.readString(), in.readDateTime(), in.readDateTime(),
+                in.readString(), in.readString(), in.readLong());
+        }
+    }
+
+    @Param({"jackson", "jdk", "compact"})
+    private String serializer;
+
+    @Param({"concert", "concertList"})
+    private String payload;
+
+    private RedisSerializer<Object> redisSerializer;
+    private Class<?> type;
+    private Object value;
+    private byte[] bytes;
+
+    @Setup
+    public void setUp() {
+        redisSerializer = switch (serializer) {
+            case "jackson" -> CompactRedisSerializer.legacyJackson();
+            case "jdk" -> RedisSerializer.java(getClass().getClassLoader());
+            default -> new CompactRedisSerializer(List.of(new ConcertCodec()),
+                getClass().getClassLoader());
+        };
+
+        final Concert concert = new Concert(1024L, 3L, 1L, 12L, 5L, "Selected Seat Live in Seoul",
+            LocalDateTime.of(2024, 8, 15, 19, 0), LocalDateTime.of(2024, 8, 15, 22, 0),
+            "https://cdn.example.com/concerts/1024/thumbnail.png", "KSPO DOME", 15000L);
+        value = "concert".equals(payload)
+            ? concert
+            : new ArrayList<>(Collections.nCopies(8, concert));
+        type = "concert".equals(payload) ? Concert.class : Object.class;
+        bytes = redisSerializer.serialize(value);
+
+        System.out.printf("%n%s/%s payload: %d bytes%n", serializer, payload, bytes.length);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return redisSerializer.serialize(value);
+    }
+
+    // the Jackson setup writes no type id for final records, so it can only read them back
+    // when told the type; list elements come back as maps
+    @Benchmark
+    public Object deserialize() {
+        if (redisSerializer instanceof GenericJackson2JsonRedisSerializer jackson) {
+            return jackson.deserialize(bytes, type);
+        }
+        return redisSerializer.deserialize(bytes);
+    }
+}
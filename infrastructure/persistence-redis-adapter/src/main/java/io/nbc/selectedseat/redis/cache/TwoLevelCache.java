@@ -0,0 +1,145 @@
+package io.nbc.selectedseat.redis.cache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+// a node-local Caffeine cache in front of the shared Redis cache. Local entries are keyed by
+// the key's string form so an eviction broadcast from another node can find them
+public class TwoLevelCache implements Cache {
+
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+    private final Cache remote;
+    private final Consumer<String> evictionPublisher;
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder remoteHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public TwoLevelCache(
+        final com.github.benmanes.caffeine.cache.Cache<String, Object> local,
+        final Cache remote,
+        final Consumer<String> evictionPublisher
+    ) {
+        this.local = local;
+        this.remote = remote;
+        this.evictionPublisher = evictionPublisher;
+    }
+
+    @Override
+    public String getName() {
+        return remote.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return this;
+    }
+
+    @Override
+    public ValueWrapper get(final Object key) {
+        final String localKey = String.valueOf(key);
+        final Object value = local.getIfPresent(localKey);
+        if (value != null) {
+            localHits.increment();
+            return new SimpleValueWrapper(value);
+        }
+
+        final ValueWrapper wrapper = remote.get(key);
+        if (wrapper == null || wrapper.get() == null) {
+            misses.increment();
+            return null;
+        }
+
+        remoteHits.increment();
+        local.put(localKey, wrapper.get());
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(final Object key, final Class<T> type) {
+        final ValueWrapper wrapper = get(key);
+        return wrapper == null ? null : (T) wrapper.get();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(final Object key, final Callable<T> valueLoader) {
+        final ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+
+        try {
+            final T value = valueLoader.call();
+            put(key, value);
+            return value;
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    @Override
+    public void put(final Object key, final Object value) {
+        if (value == null) {
+            return;
+        }
+
+        puts.increment();
+        remote.put(key, value);
+        local.put(String.valueOf(key), value);
+    }
+
+    // other nodes drop their local copy when the broadcast arrives
+    @Override
+    public void evict(final Object key) {
+        evictions.increment();
+        remote.evict(key);
+        evictLocal(String.valueOf(key));
+        evictionPublisher.accept(String.valueOf(key));
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        clearLocal();
+        evictionPublisher.accept(null);
+    }
+
+    public void evictLocal(final String key) {
+        local.invalidate(key);
+    }
+
+    public void clearLocal() {
+        local.invalidateAll();
+    }
+
+    public long localHitCount() {
+        return localHits.sum();
+    }
+
+    public long remoteHitCount() {
+        return remoteHits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long putCount() {
+        return puts.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    public long localSize() {
+        return local.estimatedSize();
+    }
+}
@@ -0,0 +1,69 @@
+package io.nbc.selectedseat.redis.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+// evictions are broadcast as "cacheName\nkey", or just the cache name for a clear
+public class TwoLevelCacheManager implements CacheManager {
+
+    public static final String EVICTION_CHANNEL = "cache:evict";
+    public static final Duration LOCAL_TTL = Duration.ofSeconds(30);
+    public static final long LOCAL_MAXIMUM_SIZE = 10_000L;
+
+    private final RedisCacheManager redisCacheManager;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(
+        final RedisCacheManager redisCacheManager,
+        final StringRedisTemplate stringRedisTemplate
+    ) {
+        this.redisCacheManager = redisCacheManager;
+        this.stringRedisTemplate = stringRedisTemplate;
+    }
+
+    @Override
+    public Cache getCache(final String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return redisCacheManager.getCacheNames();
+    }
+
+    public void onEviction(final String message) {
+        final int separator = message.indexOf('\n');
+        final String name = separator < 0 ? message : message.substring(0, separator);
+
+        final TwoLevelCache cache = caches.get(name);
+        if (cache == null) {
+            return;
+        }
+
+        if (separator < 0) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(message.substring(separator + 1));
+        }
+    }
+
+    private TwoLevelCache createCache(final String name) {
+        return new TwoLevelCache(
+            Caffeine.newBuilder()
+                .expireAfterWrite(LOCAL_TTL)
+                .maximumSize(LOCAL_MAXIMUM_SIZE)
+                .build(),
+            redisCacheManager.getCache(name),
+            key -> stringRedisTemplate.convertAndSend(EVICTION_CHANNEL,
+                key == null ? name : name + "\n" + key)
+        );
+    }
+}
@@ -0,0 +1,57 @@
+package io.nbc.selectedseat.redis.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+
+// cache.gets{result=hit} counts both levels; cache.level.hits splits them
+public class TwoLevelCacheMeterBinder extends CacheMeterBinder<TwoLevelCache> {
+
+    public TwoLevelCacheMeterBinder(final TwoLevelCache cache, final Iterable<Tag> tags) {
+        super(cache, cache.getName(), tags);
+    }
+
+    @Override
+    protected Long size() {
+        TwoLevelCache cache = getCache();
+        return cache == null ? null : cache.localSize();
+    }
+
+    @Override
+    protected long hitCount() {
+        TwoLevelCache cache = getCache();
+        return cache == null ? 0L : cache.localHitCount() + cache.remoteHitCount();
+    }
+
+    @Override
+    protected Long missCount() {
+        TwoLevelCache cache = getCache();
+        return cache == null ? null : cache.missCount();
+    }
+
+    @Override
+    protected Long evictionCount() {
+        TwoLevelCache cache = getCache();
+        return cache == null ? null : cache.evictionCount();
+    }
+
+    @Override
+    protected long putCount() {
+        TwoLevelCache cache = getCache();
+        return cache == null ? 0L : cache.putCount();
+    }
+
+    @Override
+    protected void bindImplementationSpecificMetrics(final MeterRegistry registry) {
+        TwoLevelCache cache = getCache();
+        FunctionCounter.builder("cache.level.hits", cache, TwoLevelCache::localHitCount)
+            .tags(getTagsWithCacheName())
+            .tag("level", "local")
+            .register(registry);
+        FunctionCounter.builder("cache.level.hits", cache, TwoLevelCache::remoteHitCount)
+            .tags(getTagsWithCacheName())
+            .tag("level", "redis")
+            .register(registry);
+    }
+}
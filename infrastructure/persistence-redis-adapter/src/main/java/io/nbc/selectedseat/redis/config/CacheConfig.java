@@ -1,21 +1,21 @@
 package io.nbc.selectedseat.redis.config;
 
-import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
-import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.nbc.selectedseat.redis.cache.TwoLevelCache;
+import io.nbc.selectedseat.redis.cache.TwoLevelCacheManager;
+import io.nbc.selectedseat.redis.cache.TwoLevelCacheMeterBinder;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
-import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
@@ -29,6 +29,11 @@ import static org.springframework.data.redis.serializer.RedisSerializationContex
 public class CacheConfig {
     public static final String CACHE_300 = "cache300";
     public static final String CACHE_30 = "cache30";
+    public static final String CONCERT = "concert";
+    public static final String CONCERT_DATES = "concertDates";
+    public static final String CONCERT_RATING = "concertRating";
+    public static final String TICKET_PRICE = "ticketPrice";
+    public static final String ARTIST = "artist";
 
     @AllArgsConstructor
     @Getter
@@ -38,25 +43,19 @@ public class CacheConfig {
     }
 
     @Bean
-    public RedisCacheManager redisCacheManager(RedisConnectionFactory cf, ResourceLoader rl) {
+    public RedisCacheManager redisCacheManager(
+            RedisConnectionFactory cf,
+            ResourceLoader rl,
+            RedisSerializer<Object> redisValueSerializer
+    ) {
         RedisCacheManager.RedisCacheManagerBuilder builder =
                 RedisCacheManager.RedisCacheManagerBuilder.fromConnectionFactory(cf);
-        PolymorphicTypeValidator ptv = BasicPolymorphicTypeValidator
-                .builder()
-                .allowIfSubType(Object.class)
-                .build();
-
-        ObjectMapper objectMapper = new ObjectMapper()
-                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
-                .registerModule(new JavaTimeModule())
-                .activateDefaultTyping(ptv, ObjectMapper.DefaultTyping.NON_FINAL)
-                .disable(SerializationFeature.WRITE_DATE_KEYS_AS_TIMESTAMPS);
 
         RedisCacheConfiguration configuration = RedisCacheConfiguration.
                 defaultCacheConfig(rl.getClassLoader())
                 .disableCachingNullValues()
                 .serializeKeysWith(fromSerializer(new StringRedisSerializer()))
-                .serializeValuesWith(fromSerializer(new GenericJackson2JsonRedisSerializer(objectMapper)))
+                .serializeValuesWith(fromSerializer(redisValueSerializer))
                 .entryTtl(Duration.ofDays(1));
 
 
@@ -64,6 +63,28 @@ public class CacheConfig {
         cacheConfigurationMap.put(CACHE_30, configuration.entryTtl(Duration.ofSeconds(30)));
         cacheConfigurationMap.put(CACHE_300, configuration.entryTtl(Duration.ofSeconds(300)));
 
+        RedisCacheConfiguration catalog = configuration.entryTtl(Duration.ofSeconds(300));
+        cacheConfigurationMap.put(CONCERT, catalog);
+        cacheConfigurationMap.put(CONCERT_DATES, catalog);
+        cacheConfigurationMap.put(CONCERT_RATING, catalog);
+        cacheConfigurationMap.put(TICKET_PRICE, catalog);
+        cacheConfigurationMap.put(ARTIST, catalog);
+
         return builder.cacheDefaults(configuration).withInitialCacheConfigurations(cacheConfigurationMap).build();
     }
+
+    @Bean
+    @Primary
+    public TwoLevelCacheManager cacheManager(
+            RedisCacheManager redisCacheManager,
+            StringRedisTemplate stringRedisTemplate
+    ) {
+        return new TwoLevelCacheManager(redisCacheManager, stringRedisTemplate);
+    }
+
+    // picked up by the actuator cache metrics registrar for every cache of every manager
+    @Bean
+    public CacheMeterBinderProvider<TwoLevelCache> twoLevelCacheMeterBinderProvider() {
+        return TwoLevelCacheMeterBinder::new;
+    }
 }
@@ -1,22 +1,20 @@
 package io.nbc.selectedseat.redis.config;
 
-import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
-import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.nbc.selectedseat.redis.serializer.BinaryCodec;
+import io.nbc.selectedseat.redis.serializer.CompactRedisSerializer;
 import org.redisson.Redisson;
 import org.redisson.api.RedissonClient;
 import org.redisson.config.Config;
 import org.redisson.spring.data.connection.RedissonConnectionFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ResourceLoader;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
-import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
@@ -46,27 +44,29 @@ public class RedisConfig {
         return new RedissonConnectionFactory(redissonClient);
     }
 
+    // values carry a small type tag instead of a class name; types without a BinaryCodec
+    // bean fall back to JDK serialization
     @Bean
-    public RedisTemplate<String, Object> objectRedisTemplate(
-        final RedisConnectionFactory connectionFactory
+    public RedisSerializer<Object> redisValueSerializer(
+        final ObjectProvider<BinaryCodec<?>> codecs,
+        final ResourceLoader resourceLoader
     ) {
-        PolymorphicTypeValidator ptv = BasicPolymorphicTypeValidator
-            .builder()
-            .allowIfSubType(Object.class)
-            .build();
-
-        ObjectMapper objectMapper = new ObjectMapper()
-            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
-            .registerModule(new JavaTimeModule())
-            .activateDefaultTyping(ptv, ObjectMapper.DefaultTyping.NON_FINAL)
-            .disable(SerializationFeature.WRITE_DATE_KEYS_AS_TIMESTAMPS);
+        return new CompactRedisSerializer(
+            codecs.orderedStream().toList(),
+            resourceLoader.getClassLoader()
+        );
+    }
 
+    @Bean
+    public RedisTemplate<String, Object> objectRedisTemplate(
+        final RedisConnectionFactory connectionFactory,
+        final RedisSerializer<Object> redisValueSerializer
+    ) {
         RedisTemplate<String, Object> template = new RedisTemplate<>();
 
         template.setConnectionFactory(connectionFactory);
         template.setKeySerializer(new StringRedisSerializer());
-        template.setValueSerializer(
-            new GenericJackson2JsonRedisSerializer(objectMapper));
+        template.setValueSerializer(redisValueSerializer);
         return template;
     }
 }
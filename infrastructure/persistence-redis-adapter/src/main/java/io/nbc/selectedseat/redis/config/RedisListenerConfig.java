@@ -0,0 +1,39 @@
+package io.nbc.selectedseat.redis.config;
+
+import static io.nbc.selectedseat.redis.cache.TwoLevelCacheManager.EVICTION_CHANNEL;
+import static io.nbc.selectedseat.util.seat.SeatChannel.SEAT_CHANNEL_PATTERN;
+
+import io.nbc.selectedseat.redis.cache.TwoLevelCacheManager;
+import io.nbc.selectedseat.redis.seatmap.SeatMapCache;
+import java.nio.charset.StandardCharsets;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+// one subscriber connection for every node-local cache kept in sync over pub/sub
+@Configuration
+public class RedisListenerConfig {
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+        final RedisConnectionFactory redisConnectionFactory,
+        final SeatMapCache seatMapCache,
+        final TwoLevelCacheManager twoLevelCacheManager
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(
+            (message, pattern) -> seatMapCache.onChange(
+                new String(message.getChannel(), StandardCharsets.UTF_8),
+                new String(message.getBody(), StandardCharsets.UTF_8)),
+            new PatternTopic(SEAT_CHANNEL_PATTERN));
+        container.addMessageListener(
+            (message, pattern) -> twoLevelCacheManager.onEviction(
+                new String(message.getBody(), StandardCharsets.UTF_8)),
+            new ChannelTopic(EVICTION_CHANNEL));
+        return container;
+    }
+}
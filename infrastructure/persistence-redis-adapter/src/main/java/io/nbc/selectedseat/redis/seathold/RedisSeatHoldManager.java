@@ -0,0 +1,173 @@
+package io.nbc.selectedseat.redis.seathold;
+
+import static io.nbc.selectedseat.redis.seatmap.SeatMapKeys.SET_SEAT_LUA;
+
+import io.nbc.selectedseat.redis.seatmap.SeatMapKeys;
+import java.time.Duration;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+// a hold is a key owned by one token that expires on its own, so an abandoned seat
+// returns to the pool without any cleanup and only live holds occupy the keyspace
+@Service
+@RequiredArgsConstructor
+public class RedisSeatHoldManager implements SeatHoldManager {
+
+    public static final String HOLD_PREFIX = "SS_HOLD:";
+
+    // re-entrant for the same owner, which renews the lease instead of failing
+    private static final RedisScript<Boolean> HOLD_SCRIPT = RedisScript.of("""
+        local owner = redis.call('GET', KEYS[1])
+        if owner == ARGV[1] then
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            return 1
+        end
+
+        if owner then
+            return 0
+        end
+
+        redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+        return 1
+        """, Boolean.class);
+
+    private static final RedisScript<Boolean> EXTEND_SCRIPT = RedisScript.of("""
+        if redis.call('GET', KEYS[1]) == ARGV[1] then
+            return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+        end
+
+        return 0
+        """, Boolean.class);
+
+    private static final RedisScript<Boolean> RELEASE_SCRIPT = RedisScript.of("""
+        if redis.call('GET', KEYS[1]) == ARGV[1] then
+            return redis.call('DEL', KEYS[1])
+        end
+
+        return 0
+        """, Boolean.class);
+
+    // hold and seat bit change together: 1 claimed, 0 held by someone else, -1 no hold but
+    // the bit is set, which the caller confirms against the DB before claiming again with force.
+    // a ticket missing from the seat index has no seat map yet, so only the hold is taken
+    private static final RedisScript<Long> CLAIM_SCRIPT = RedisScript.of(SET_SEAT_LUA + """
+        local owner = redis.call('GET', KEYS[1])
+        if owner and owner ~= ARGV[1] then
+            return 0
+        end
+
+        local index = redis.call('HGET', KEYS[3], ARGV[3])
+        if not owner and ARGV[4] ~= '1' and index
+            and redis.call('GETBIT', KEYS[2], index) == 1 then
+            return -1
+        end
+
+        redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+        if index then
+            setSeat(KEYS[2], KEYS[4], KEYS[5], index, 1)
+        end
+        return 1
+        """, Long.class);
+
+    private static final RedisScript<Long> RELEASE_CLAIM_SCRIPT = RedisScript.of(SET_SEAT_LUA + """
+        if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+            return 0
+        end
+
+        redis.call('DEL', KEYS[1])
+        local index = redis.call('HGET', KEYS[3], ARGV[2])
+        if index then
+            setSeat(KEYS[2], KEYS[4], KEYS[5], index, 0)
+        end
+        return 1
+        """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Override
+    public boolean hold(
+        final String key,
+        final String owner,
+        final Duration lease
+    ) {
+        return Boolean.TRUE.equals(stringRedisTemplate.execute(
+            HOLD_SCRIPT,
+            List.of(HOLD_PREFIX + key),
+            owner,
+            String.valueOf(lease.toMillis())
+        ));
+    }
+
+    @Override
+    public boolean extend(
+        final String key,
+        final String owner,
+        final Duration lease
+    ) {
+        return Boolean.TRUE.equals(stringRedisTemplate.execute(
+            EXTEND_SCRIPT,
+            List.of(HOLD_PREFIX + key),
+            owner,
+            String.valueOf(lease.toMillis())
+        ));
+    }
+
+    @Override
+    public boolean release(
+        final String key,
+        final String owner
+    ) {
+        return Boolean.TRUE.equals(stringRedisTemplate.execute(
+            RELEASE_SCRIPT,
+            List.of(HOLD_PREFIX + key),
+            owner
+        ));
+    }
+
+    @Override
+    public SeatClaim claim(
+        final String key,
+        final String owner,
+        final Duration lease,
+        final SeatMapKeys seatMapKeys,
+        final Long ticketId,
+        final boolean force
+    ) {
+        return SeatClaim.from(stringRedisTemplate.execute(
+            CLAIM_SCRIPT,
+            claimKeys(key, seatMapKeys),
+            owner,
+            String.valueOf(lease.toMillis()),
+            ticketId.toString(),
+            force ? "1" : "0"
+        ));
+    }
+
+    @Override
+    public boolean releaseClaim(
+        final String key,
+        final String owner,
+        final SeatMapKeys seatMapKeys,
+        final Long ticketId
+    ) {
+        return Long.valueOf(1L).equals(stringRedisTemplate.execute(
+            RELEASE_CLAIM_SCRIPT,
+            claimKeys(key, seatMapKeys),
+            owner,
+            ticketId.toString()
+        ));
+    }
+
+    private static List<String> claimKeys(final String key, final SeatMapKeys seatMapKeys) {
+        return List.of(
+            HOLD_PREFIX + key,
+            seatMapKeys.seatMap(),
+            seatMapKeys.index(),
+            seatMapKeys.version(),
+            seatMapKeys.changes()
+        );
+    }
+}
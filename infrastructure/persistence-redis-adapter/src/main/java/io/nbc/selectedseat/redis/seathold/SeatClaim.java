@@ -0,0 +1,15 @@
+package io.nbc.selectedseat.redis.seathold;
+
+public enum SeatClaim {
+    CLAIMED,
+    HELD,
+    TAKEN;
+
+    public static SeatClaim from(final Long result) {
+        if (result == null || result == 0L) {
+            return HELD;
+        }
+
+        return result > 0 ? CLAIMED : TAKEN;
+    }
+}
@@ -0,0 +1,19 @@
+package io.nbc.selectedseat.redis.seathold;
+
+import io.nbc.selectedseat.redis.seatmap.SeatMapKeys;
+import java.time.Duration;
+
+public interface SeatHoldManager {
+
+    boolean hold(final String key, final String owner, final Duration lease);
+
+    boolean extend(final String key, final String owner, final Duration lease);
+
+    boolean release(final String key, final String owner);
+
+    SeatClaim claim(final String key, final String owner, final Duration lease,
+        final SeatMapKeys seatMapKeys, final Long ticketId, final boolean force);
+
+    boolean releaseClaim(final String key, final String owner,
+        final SeatMapKeys seatMapKeys, final Long ticketId);
+}
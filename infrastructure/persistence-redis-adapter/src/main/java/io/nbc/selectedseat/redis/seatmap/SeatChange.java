@@ -0,0 +1,17 @@
+package io.nbc.selectedseat.redis.seatmap;
+
+public record SeatChange(
+    long version,
+    long index,
+    boolean taken
+) {
+
+    public static SeatChange from(final String entry) {
+        String[] tokens = entry.split(":");
+        return new SeatChange(
+            Long.parseLong(tokens[0]),
+            Long.parseLong(tokens[1]),
+            "1".equals(tokens[2])
+        );
+    }
+}
@@ -0,0 +1,11 @@
+package io.nbc.selectedseat.redis.seatmap;
+
+import java.util.List;
+
+// changes are oldest first and carry the bit's new value, so replaying one twice is harmless
+public record SeatChanges(
+    long version,
+    List<SeatChange> changes
+) {
+
+}
@@ -0,0 +1,42 @@
+package io.nbc.selectedseat.redis.seatmap;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.nbc.selectedseat.redis.service.RedisService;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+// near-cache of seat maps, keyed by change channel so a published flip finds its entry
+// directly. Concurrent misses on one seat map wait on a single Redis read, and flips
+// patch the cached snapshot in place of a re-read; the short expiry bounds how long a
+// lost message can leave a node behind
+@Component
+@RequiredArgsConstructor
+public class SeatMapCache {
+
+    public static final Duration EXPIRE_AFTER_WRITE = Duration.ofSeconds(5);
+    public static final long MAXIMUM_SIZE = 10_000L;
+
+    private final RedisService redisService;
+    private final Cache<String, SeatMapSnapshot> snapshots = Caffeine.newBuilder()
+        .expireAfterWrite(EXPIRE_AFTER_WRITE)
+        .maximumSize(MAXIMUM_SIZE)
+        .build();
+
+    public SeatMapSnapshot get(final SeatMapKeys seatMapKeys) {
+        return snapshots.get(seatMapKeys.changes(), key -> load(seatMapKeys));
+    }
+
+    public void onChange(final String channel, final String change) {
+        final SeatChange seatChange = SeatChange.from(change);
+        snapshots.asMap().computeIfPresent(channel, (key, snapshot) -> snapshot.apply(seatChange));
+    }
+
+    // version first: a bitmap read after it can only be newer, and changes replayed
+    // on top of it set bits to values they already have
+    private SeatMapSnapshot load(final SeatMapKeys seatMapKeys) {
+        final long version = redisService.getSeatVersion(seatMapKeys);
+        return new SeatMapSnapshot(version, redisService.getSeatMap(seatMapKeys.seatMap()));
+    }
+}
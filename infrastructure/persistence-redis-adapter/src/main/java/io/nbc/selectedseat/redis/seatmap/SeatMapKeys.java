@@ -0,0 +1,30 @@
+package io.nbc.selectedseat.redis.seatmap;
+
+// every key of one (concert, date, rating) seat map. The version counts bit flips and the
+// change log keeps the latest of them, newest first, as "version:index:bit". Each entry is
+// also published on a channel named after the change log for live seat streams
+public record SeatMapKeys(
+    String seatMap,
+    String layout,
+    String index,
+    String version,
+    String changes
+) {
+
+    public static final long CHANGE_LOG_SIZE = 1024L;
+
+    // shared by every script that flips a seat bit, so the version and change log
+    // move in the same step as the bit
+    public static final String SET_SEAT_LUA = """
+        local function setSeat(seatMapKey, versionKey, changesKey, index, bit)
+            if redis.call('SETBIT', seatMapKey, index, bit) == bit then
+                return
+            end
+
+            local change = redis.call('INCR', versionKey) .. ':' .. index .. ':' .. bit
+            redis.call('LPUSH', changesKey, change)
+            redis.call('LTRIM', changesKey, 0, %d)
+            redis.call('PUBLISH', changesKey, change)
+        end
+        """.formatted(CHANGE_LOG_SIZE - 1);
+}
@@ -0,0 +1,27 @@
+package io.nbc.selectedseat.redis.seatmap;
+
+import java.util.Arrays;
+
+// shared by every reader on the node, so the bitmap is never written after construction
+public record SeatMapSnapshot(
+    long version,
+    byte[] seatMap
+) {
+
+    // null when the change does not follow this snapshot directly, which drops it from the
+    // cache so the next read goes back to Redis
+    public SeatMapSnapshot apply(final SeatChange change) {
+        if (change.version() <= version) {
+            return this;
+        }
+        if (change.version() != version + 1) {
+            return null;
+        }
+
+        final int offset = (int) (change.index() >> 3);
+        final byte[] next = Arrays.copyOf(seatMap, Math.max(seatMap.length, offset + 1));
+        final int mask = 1 << (7 - (int) (change.index() & 7));
+        next[offset] = (byte) (change.taken() ? next[offset] | mask : next[offset] & ~mask);
+        return new SeatMapSnapshot(change.version(), next);
+    }
+}
@@ -0,0 +1,15 @@
+package io.nbc.selectedseat.redis.serializer;
+
+// writes one type field by field with no names or class ids. The tag is stored in front of
+// every value and must never be reused for another type; tags below 16 are reserved for
+// the built-in types of CompactRedisSerializer
+public interface BinaryCodec<T> {
+
+    int tag();
+
+    Class<T> type();
+
+    void write(final BinaryOutput out, final T value);
+
+    T read(final BinaryInput in);
+}
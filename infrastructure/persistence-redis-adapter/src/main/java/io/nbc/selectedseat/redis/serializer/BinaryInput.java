@@ -0,0 +1,72 @@
+package io.nbc.selectedseat.redis.serializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+public class BinaryInput {
+
+    private final byte[] buffer;
+    private int position;
+
+    public BinaryInput(final byte[] buffer) {
+        this.buffer = buffer;
+    }
+
+    public int readByte() {
+        return buffer[position++];
+    }
+
+    public byte[] readBytes() {
+        final int length = (int) readVarLong();
+        final byte[] bytes = Arrays.copyOfRange(buffer, position, position + length);
+        position += length;
+        return bytes;
+    }
+
+    public long readVarLong() {
+        long zigZag = 0L;
+        int shift = 0;
+        int current;
+        do {
+            current = readByte();
+            zigZag |= (long) (current & 0x7F) << shift;
+            shift += 7;
+        } while ((current & 0x80) != 0);
+        return (zigZag >>> 1) ^ -(zigZag & 1);
+    }
+
+    public boolean readBoolean() {
+        return readByte() != 0;
+    }
+
+    public Long readLong() {
+        return readBoolean() ? readVarLong() : null;
+    }
+
+    public String readString() {
+        if (!readBoolean()) {
+            return null;
+        }
+
+        final int length = (int) readVarLong();
+        final String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    public LocalDateTime readDateTime() {
+        if (!readBoolean()) {
+            return null;
+        }
+
+        final long epochSecond = readVarLong();
+        return LocalDateTime.ofEpochSecond(epochSecond, (int) readVarLong(), ZoneOffset.UTC);
+    }
+
+    public <E extends Enum<E>> E readEnum(final Class<E> type) {
+        final String name = readString();
+        return name == null ? null : Enum.valueOf(type, name);
+    }
+}
@@ -0,0 +1,200 @@
+package io.nbc.selectedseat.redis.serializer;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+// a value is a format byte, its tag, then the fields its codec writes. Strings, numbers,
+// booleans and lists are built in; anything without a codec falls back to JDK serialization,
+// so an unregistered type still round-trips, just without the size win.
+// Values written before this format have no format byte: a JDK stream starts with 0xACED and
+// Jackson JSON with an ASCII character, and both are still read until their keys expire
+public class CompactRedisSerializer implements RedisSerializer<Object> {
+
+    // 0xC1 never starts a UTF-8 text or a JDK stream
+    public static final int FORMAT = 0xC1;
+    public static final int NULL = 0;
+    public static final int STRING = 1;
+    public static final int LONG = 2;
+    public static final int INTEGER = 3;
+    public static final int BOOLEAN = 4;
+    public static final int LIST = 5;
+    public static final int JDK = 15;
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final Map<Class<?>, BinaryCodec<?>> codecsByType;
+    private final Map<Integer, BinaryCodec<?>> codecsByTag;
+    private final RedisSerializer<Object> fallback;
+    private final RedisSerializer<Object> legacy;
+
+    public CompactRedisSerializer(
+        final Collection<BinaryCodec<?>> codecs,
+        final ClassLoader classLoader
+    ) {
+        this.codecsByType = new HashMap<>();
+        this.codecsByTag = new HashMap<>();
+        for (BinaryCodec<?> codec : codecs) {
+            register(codec);
+        }
+        this.fallback = RedisSerializer.java(classLoader);
+        this.legacy = legacyJackson();
+    }
+
+    // a tag is written into every stored value, so a clash would decode one type as another
+    private void register(final BinaryCodec<?> codec) {
+        final String name = codec.getClass().getName();
+        if (codec.tag() <= JDK) {
+            throw new IllegalArgumentException(
+                "Codec %s uses tag %d, but tags 0-%d are reserved for built-in types"
+                    .formatted(name, codec.tag(), JDK));
+        }
+
+        final BinaryCodec<?> sameTag = codecsByTag.putIfAbsent(codec.tag(), codec);
+        if (sameTag != null) {
+            throw new IllegalArgumentException("Codecs %s and %s both use tag %d"
+                .formatted(sameTag.getClass().getName(), name, codec.tag()));
+        }
+
+        final BinaryCodec<?> sameType = codecsByType.putIfAbsent(codec.type(), codec);
+        if (sameType != null) {
+            throw new IllegalArgumentException("Codecs %s and %s both handle %s"
+                .formatted(sameType.getClass().getName(), name, codec.type().getName()));
+        }
+    }
+
+    @Override
+    public byte[] serialize(final Object value) throws SerializationException {
+        if (value == null) {
+            return null;
+        }
+
+        final BinaryOutput out = new BinaryOutput(INITIAL_CAPACITY);
+        out.writeByte(FORMAT);
+        write(out, value);
+        return out.toByteArray();
+    }
+
+    @Override
+    public Object deserialize(final byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        if ((bytes[0] & 0xFF) != FORMAT) {
+            return readLegacy(bytes);
+        }
+
+        try {
+            final BinaryInput in = new BinaryInput(bytes);
+            in.readByte();
+            return read(in);
+        } catch (RuntimeException e) {
+            throw new SerializationException("Cannot deserialize compact value", e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void write(final BinaryOutput out, final Object value) {
+        if (value == null) {
+            out.writeVarLong(NULL);
+            return;
+        }
+
+        final BinaryCodec<Object> codec = (BinaryCodec<Object>) codecsByType.get(value.getClass());
+        if (codec != null) {
+            out.writeVarLong(codec.tag());
+            codec.write(out, value);
+            return;
+        }
+
+        if (value instanceof String string) {
+            out.writeVarLong(STRING);
+            out.writeString(string);
+        } else if (value instanceof Long number) {
+            out.writeVarLong(LONG);
+            out.writeVarLong(number);
+        } else if (value instanceof Integer number) {
+            out.writeVarLong(INTEGER);
+            out.writeVarLong(number);
+        } else if (value instanceof Boolean flag) {
+            out.writeVarLong(BOOLEAN);
+            out.writeBoolean(flag);
+        } else if (value instanceof List<?> list) {
+            out.writeVarLong(LIST);
+            out.writeVarLong(list.size());
+            for (Object element : list) {
+                write(out, element);
+            }
+        } else {
+            out.writeVarLong(JDK);
+            out.writeBytes(fallback.serialize(value));
+        }
+    }
+
+    private Object read(final BinaryInput in) {
+        final int tag = (int) in.readVarLong();
+        return switch (tag) {
+            case NULL -> null;
+            case STRING -> in.readString();
+            case LONG -> in.readVarLong();
+            case INTEGER -> (int) in.readVarLong();
+            case BOOLEAN -> in.readBoolean();
+            case LIST -> readList(in);
+            case JDK -> fallback.deserialize(in.readBytes());
+            default -> readCodec(tag, in);
+        };
+    }
+
+    private Object readCodec(
+        final int tag,
+        final BinaryInput in
+    ) {
+        final BinaryCodec<?> codec = codecsByTag.get(tag);
+        if (codec == null) {
+            throw new SerializationException("Unknown compact value tag " + tag);
+        }
+
+        return codec.read(in);
+    }
+
+    private Object readLegacy(final byte[] bytes) {
+        if (bytes.length > 1 && (bytes[0] & 0xFF) == 0xAC && (bytes[1] & 0xFF) == 0xED) {
+            return fallback.deserialize(bytes);
+        }
+
+        return legacy.deserialize(bytes);
+    }
+
+    private List<Object> readList(final BinaryInput in) {
+        final int size = (int) in.readVarLong();
+        final List<Object> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(read(in));
+        }
+        return Collections.unmodifiableList(list);
+    }
+
+    // the Jackson setup RedisConfig and CacheConfig wrote values with before this format
+    static RedisSerializer<Object> legacyJackson() {
+        final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+            .registerModule(new JavaTimeModule())
+            .activateDefaultTyping(BasicPolymorphicTypeValidator.builder()
+                .allowIfSubType(Object.class)
+                .build(), ObjectMapper.DefaultTyping.NON_FINAL)
+            .disable(SerializationFeature.WRITE_DATE_KEYS_AS_TIMESTAMPS);
+        return new GenericJackson2JsonRedisSerializer(objectMapper);
+    }
+}
@@ -1,6 +1,9 @@
 package io.nbc.selectedseat.redis.service;
 
+import io.nbc.selectedseat.redis.seatmap.SeatChanges;
+import io.nbc.selectedseat.redis.seatmap.SeatMapKeys;
 import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -15,9 +18,26 @@ public interface RedisService {
 
     boolean delete(final String key);
 
-    void setSeats(final String key, final String hashKey, final boolean value);
+    boolean extendExpiry(final String key, final String member,
+        final Duration duration);
+
+    void setHash(final String key, final Map<String, String> values,
+        final Duration duration);
+
+    Long nextSequence(final String key);
+
+    Long nextSequence(final String key, final long floor);
+
+    String appendStream(final String key, final Map<String, String> fields);
+
+    long appendSeats(final Map<SeatMapKeys, Map<String, String>> seatMaps);
+
+    long getSeatVersion(final SeatMapKeys seatMapKeys);
+
+    Optional<SeatChanges> getSeatChanges(final SeatMapKeys seatMapKeys, final long since);
+
+    byte[] getSeatMap(final String key);
 
-    Map<Object, Object> getSeats(final String key);
+    List<String> getSeatLayout(final String key);
 
-    void selectedSeat(final String key, final String hashKey);
 }
@@ -1,16 +1,98 @@
 package io.nbc.selectedseat.redis.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.nbc.selectedseat.redis.seatmap.SeatChange;
+import io.nbc.selectedseat.redis.seatmap.SeatChanges;
+import io.nbc.selectedseat.redis.seatmap.SeatMapKeys;
+import io.nbc.selectedseat.util.queue.AdmissionQueue;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 @Service
 public class RedissonService implements RedisService {
 
+    // sorted-set scores are deadlines, extended the same way the queue service extends them
+    private static final RedisScript<Boolean> EXTEND_EXPIRY_SCRIPT = RedisScript.of(
+        AdmissionQueue.EXTEND_ADMISSION_SCRIPT, Boolean.class);
+
+    // a missing sequence is not restarted here, so the caller can seed it from a fresh floor
+    private static final RedisScript<Long> NEXT_EXISTING_SEQUENCE_SCRIPT = RedisScript.of("""
+        if redis.call('EXISTS', KEYS[1]) == 0 then
+            return false
+        end
+
+        return redis.call('INCR', KEYS[1])
+        """, Long.class);
+
+    // a sequence never hands out a value at or below the floor, so it can continue an id space
+    // that was started elsewhere
+    private static final RedisScript<Long> NEXT_SEQUENCE_SCRIPT = RedisScript.of("""
+        local sequence = redis.call('INCR', KEYS[1])
+        if sequence <= tonumber(ARGV[1]) then
+            sequence = tonumber(ARGV[1]) + 1
+            redis.call('SET', KEYS[1], sequence)
+        end
+
+        return sequence
+        """, Long.class);
+
+    // ARGV is ticketId, layout entry pairs. A ticket already in the index keeps its seat,
+    // so a re-run of the warmup job never shifts the bits of seats that are on sale.
+    // New seats change the layout, so the version moves and the change log starts over,
+    // which sends every client back to a full read
+    private static final RedisScript<Long> APPEND_SEATS_SCRIPT = RedisScript.of("""
+        local appended = 0
+        for i = 1, #ARGV, 2 do
+            if redis.call('HEXISTS', KEYS[2], ARGV[i]) == 0 then
+                local index = redis.call('RPUSH', KEYS[1], ARGV[i + 1]) - 1
+                redis.call('HSET', KEYS[2], ARGV[i], index)
+                appended = appended + 1
+            end
+        end
+
+        if appended > 0 then
+            redis.call('INCR', KEYS[3])
+            redis.call('DEL', KEYS[4])
+        end
+        return appended
+        """, Long.class);
+
+    // the log is newest first with one entry per version, so the changes after a version
+    // are exactly its head; an empty reply means the log no longer reaches back that far
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> SEAT_CHANGES_SCRIPT = RedisScript.of("""
+        local version = tonumber(redis.call('GET', KEYS[1]) or '0')
+        local missed = version - tonumber(ARGV[1])
+        if missed < 0 or missed > tonumber(ARGV[2]) then
+            return {}
+        end
+
+        local changes = {tostring(version)}
+        if missed > 0 then
+            for _, change in ipairs(redis.call('LRANGE', KEYS[2], 0, missed - 1)) do
+                table.insert(changes, change)
+            end
+        end
+        if #changes ~= missed + 1 then
+            return {}
+        end
+        return changes
+        """, List.class);
+
     private final RedisTemplate<String, Object> redisTemplate;
     private final StringRedisTemplate stringRedisTemplate;
     private final ObjectMapper objectMapper;
@@ -69,15 +151,126 @@ public class RedissonService implements RedisService {
     }
 
     @Override
-    public void setSeats(final String key, final String hashKey, final boolean value) {
-        redisTemplate.opsForHash().put(key, hashKey, value);
+    public boolean extendExpiry(
+        final String key,
+        final String member,
+        final Duration duration
+    ) {
+        final long now = Instant.now().toEpochMilli();
+        return Boolean.TRUE.equals(stringRedisTemplate.execute(
+            EXTEND_EXPIRY_SCRIPT,
+            List.of(key),
+            member,
+            String.valueOf(now),
+            String.valueOf(now + duration.toMillis())
+        ));
+    }
+
+    @Override
+    public void setHash(
+        final String key,
+        final Map<String, String> values,
+        final Duration duration
+    ) {
+        stringRedisTemplate.opsForHash().putAll(key, values);
+        stringRedisTemplate.expire(key, duration);
+    }
+
+    @Override
+    public Long nextSequence(final String key) {
+        return stringRedisTemplate.execute(NEXT_EXISTING_SEQUENCE_SCRIPT, List.of(key));
+    }
+
+    @Override
+    public Long nextSequence(final String key, final long floor) {
+        return stringRedisTemplate.execute(
+            NEXT_SEQUENCE_SCRIPT,
+            List.of(key),
+            String.valueOf(floor)
+        );
+    }
+
+    @Override
+    public String appendStream(final String key, final Map<String, String> fields) {
+        RecordId recordId = stringRedisTemplate.opsForStream()
+            .add(StreamRecords.newRecord().in(key).ofMap(fields));
+        return recordId == null ? null : recordId.getValue();
+    }
+
+    // every seat map of a chunk goes out in one pipeline, so a warmup chunk costs a single
+    // round trip however many concerts it spans. The script is sent with EVAL rather than
+    // EVALSHA because a NOSCRIPT error only surfaces once the pipeline is closed
+    @Override
+    public long appendSeats(final Map<SeatMapKeys, Map<String, String>> seatMaps) {
+        if (seatMaps.isEmpty()) {
+            return 0L;
+        }
+
+        byte[] script = APPEND_SEATS_SCRIPT.getScriptAsString().getBytes(StandardCharsets.UTF_8);
+        List<Object> appended = stringRedisTemplate.executePipelined(
+            (RedisCallback<Object>) connection -> {
+                seatMaps.forEach((seatMapKeys, seats) -> connection.scriptingCommands().eval(
+                    script, ReturnType.INTEGER, 4, appendSeatsKeysAndArgs(seatMapKeys, seats)));
+                return null;
+            });
+
+        return appended.stream()
+            .mapToLong(count -> ((Number) count).longValue())
+            .sum();
+    }
+
+    private static byte[][] appendSeatsKeysAndArgs(
+        final SeatMapKeys seatMapKeys,
+        final Map<String, String> seats
+    ) {
+        return Stream.concat(
+                Stream.of(seatMapKeys.layout(), seatMapKeys.index(),
+                    seatMapKeys.version(), seatMapKeys.changes()),
+                seats.entrySet().stream()
+                    .flatMap(seat -> Stream.of(seat.getKey(), seat.getValue())))
+            .map(value -> value.getBytes(StandardCharsets.UTF_8))
+            .toArray(byte[][]::new);
+    }
+
+    @Override
+    public long getSeatVersion(final SeatMapKeys seatMapKeys) {
+        String version = stringRedisTemplate.opsForValue().get(seatMapKeys.version());
+        return version == null ? 0L : Long.parseLong(version);
     }
 
-    public Map<Object, Object> getSeats(final String key) {
-        return redisTemplate.opsForHash().entries(key);
+    @Override
+    public Optional<SeatChanges> getSeatChanges(
+        final SeatMapKeys seatMapKeys,
+        final long since
+    ) {
+        List<?> result = stringRedisTemplate.execute(
+            SEAT_CHANGES_SCRIPT,
+            List.of(seatMapKeys.version(), seatMapKeys.changes()),
+            String.valueOf(since),
+            String.valueOf(SeatMapKeys.CHANGE_LOG_SIZE)
+        );
+        if (result == null || result.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<SeatChange> changes = new ArrayList<>();
+        for (int i = result.size() - 1; i > 0; i--) {
+            changes.add(SeatChange.from((String) result.get(i)));
+        }
+        return Optional.of(new SeatChanges(Long.parseLong((String) result.get(0)), changes));
     }
 
-    public void selectedSeat(final String key, final String hashKey) {
-        redisTemplate.opsForHash().put(key, hashKey, Boolean.FALSE);
+    // the whole map is one string of ceil(seats / 8) bytes; a map nobody has claimed from yet
+    // does not exist, which reads as every seat available
+    @Override
+    public byte[] getSeatMap(final String key) {
+        byte[] seatMap = stringRedisTemplate.execute((RedisCallback<byte[]>) connection ->
+            connection.stringCommands().get(key.getBytes(StandardCharsets.UTF_8)));
+        return seatMap == null ? new byte[0] : seatMap;
+    }
+
+    @Override
+    public List<String> getSeatLayout(final String key) {
+        return stringRedisTemplate.opsForList().range(key, 0, -1);
     }
 }
@@ -0,0 +1,253 @@
+package io.nbc.selectedseat.redis.serializer;
+
+import static io.nbc.selectedseat.redis.serializer.CompactRedisSerializer.FORMAT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class CompactRedisSerializerTest {
+
+    private final CompactRedisSerializer serializer = new CompactRedisSerializer(
+        List.of(new SeatCodec()), getClass().getClassLoader());
+
+    record Seat(Long seatId, String rating, LocalDateTime heldAt) {
+
+    }
+
+    static class SeatCodec implements BinaryCodec<Seat> {
+
+        @Override
+        public int tag() {
+            return 16;
+        }
+
+        @Override
+        public Class<Seat> type() {
+            return Seat.class;
+        }
+
+        @Override
+        public void write(final BinaryOutput out, final Seat value) {
+            out.writeLong(value.seatId());
+            out.writeString(value.rating());
+            out.writeDateTime(value.heldAt());
+        }
+
+        @Override
+        public Seat read(final BinaryInput in) {
+            return new Seat(in.readLong(), in.readString(), in.readDateTime());
+        }
+    }
+
+    static class SeatTagCodec extends SeatCodec {
+
+        private final int tag;
+
+        SeatTagCodec(final int tag) {
+            this.tag = tag;
+        }
+
+        @Override
+        public int tag() {
+            return tag;
+        }
+    }
+
+    private Object roundTrip(final Object value) {
+        return serializer.deserialize(serializer.serialize(value));
+    }
+
+    @Nested
+    class 생성자_코덱_등록_테스트 {
+
+        @Test
+        void 기본_타입에_예약된_태그를_쓰는_코덱은_거부한다() {
+            assertThatThrownBy(() -> new CompactRedisSerializer(
+                List.of(new SeatTagCodec(CompactRedisSerializer.STRING)),
+                getClass().getClassLoader()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("reserved");
+        }
+
+        @Test
+        void 같은_태그를_쓰는_코덱이_둘이면_거부한다() {
+            assertThatThrownBy(() -> new CompactRedisSerializer(
+                List.of(new SeatCodec(), new SeatTagCodec(16)),
+                getClass().getClassLoader()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("tag 16");
+        }
+
+        @Test
+        void 같은_타입을_다루는_코덱이_둘이면_거부한다() {
+            assertThatThrownBy(() -> new CompactRedisSerializer(
+                List.of(new SeatCodec(), new SeatTagCodec(17)),
+                getClass().getClassLoader()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(Seat.class.getName());
+        }
+    }
+
+    @Nested
+    class serialize_값_변환_테스트 {
+
+        @Test
+        void 기본_타입은_그대로_복원된다() {
+            //when-then
+            assertThat(roundTrip("")).isEqualTo("");
+            assertThat(roundTrip("좌석 123")).isEqualTo("좌석 123");
+            assertThat(roundTrip(Long.MIN_VALUE)).isEqualTo(Long.MIN_VALUE);
+            assertThat(roundTrip(Long.MAX_VALUE)).isEqualTo(Long.MAX_VALUE);
+            assertThat(roundTrip(-1)).isEqualTo(-1);
+            assertThat(roundTrip(Integer.MAX_VALUE)).isEqualTo(Integer.MAX_VALUE);
+            assertThat(roundTrip(true)).isEqualTo(true);
+            assertThat(roundTrip(false)).isEqualTo(false);
+        }
+
+        @Test
+        void 빈_목록과_null을_담은_목록도_복원된다() {
+            //given
+            List<Object> withNull = new ArrayList<>(Arrays.asList(1L, null, "a"));
+
+            //when-then
+            assertThat(roundTrip(List.of())).isEqualTo(List.of());
+            assertThat(roundTrip(withNull)).isEqualTo(withNull);
+            assertThat(roundTrip(List.of(List.of(), List.of(2L)))).isEqualTo(
+                List.of(List.of(), List.of(2L)));
+        }
+
+        @Test
+        void null은_저장하지_않고_빈_값은_null로_읽는다() {
+            //when-then
+            assertThat(serializer.serialize(null)).isNull();
+            assertThat(serializer.deserialize(null)).isNull();
+            assertThat(serializer.deserialize(new byte[0])).isNull();
+        }
+
+        @Test
+        void 코덱이_등록된_타입은_필드가_null이어도_복원된다() {
+            //given
+            Seat seat = new Seat(7L, "R", LocalDateTime.of(2024, 8, 15, 19, 0, 1, 5));
+            Seat empty = new Seat(null, null, null);
+
+            //when-then
+            assertThat(roundTrip(seat)).isEqualTo(seat);
+            assertThat(roundTrip(empty)).isEqualTo(empty);
+            assertThat(roundTrip(List.of(seat, empty))).isEqualTo(List.of(seat, empty));
+        }
+
+        @Test
+        void 코덱이_없는_타입은_JDK_직렬화로_복원된다() {
+            //given
+            LocalDate date = LocalDate.of(2024, 8, 15);
+
+            //when-then
+            assertThat(roundTrip(date)).isEqualTo(date);
+        }
+
+        @Test
+        void 알_수_없는_태그는_예외가_발생한다() {
+            //given
+            BinaryOutput out = new BinaryOutput(4);
+            out.writeByte(FORMAT);
+            out.writeVarLong(99);
+
+            //when-then
+            assertThatThrownBy(() -> serializer.deserialize(out.toByteArray()))
+                .isInstanceOf(SerializationException.class);
+        }
+    }
+
+    @Nested
+    class deserialize_이전_형식_호환_테스트 {
+
+        @Test
+        void Jackson으로_저장된_문자열을_읽는다() {
+            //given
+            byte[] legacy = "\"123456\"".getBytes(StandardCharsets.UTF_8);
+
+            //when-then
+            assertThat(serializer.deserialize(legacy)).isEqualTo("123456");
+        }
+
+        @Test
+        void Jackson으로_저장된_객체를_읽는다() {
+            //given
+            Map<String, Object> value = new HashMap<>(Map.of("memberId", 1, "code", "A1"));
+            byte[] legacy = CompactRedisSerializer.legacyJackson().serialize(value);
+
+            //when-then
+            assertThat(serializer.deserialize(legacy)).isEqualTo(value);
+        }
+
+        @Test
+        void JDK_직렬화로_저장된_값을_읽는다() {
+            //given
+            LocalDate date = LocalDate.of(2024, 8, 15);
+            byte[] legacy = RedisSerializer.java().serialize(date);
+
+            //when-then
+            assertThat(serializer.deserialize(legacy)).isEqualTo(date);
+        }
+    }
+
+    @Nested
+    class BinaryOutput_BinaryInput_테스트 {
+
+        @Test
+        void 가변_길이_정수는_양_끝_값까지_복원된다() {
+            //given
+            long[] values = {0L, 1L, -1L, 63L, -64L, 64L, Long.MIN_VALUE, Long.MAX_VALUE};
+            BinaryOutput out = new BinaryOutput(1);
+            for (long value : values) {
+                out.writeVarLong(value);
+            }
+
+            //when
+            BinaryInput in = new BinaryInput(out.toByteArray());
+
+            //then
+            for (long value : values) {
+                assertThat(in.readVarLong()).isEqualTo(value);
+            }
+        }
+
+        @Test
+        void null_필드와_빈_바이트열이_복원된다() {
+            //given
+            BinaryOutput out = new BinaryOutput(1);
+            out.writeLong(null);
+            out.writeString(null);
+            out.writeDateTime(null);
+            out.writeEnum(null);
+            out.writeBytes(new byte[0]);
+            out.writeEnum(Thread.State.RUNNABLE);
+
+            //when
+            BinaryInput in = new BinaryInput(out.toByteArray());
+
+            //then
+            assertThat(in.readLong()).isNull();
+            assertThat(in.readString()).isNull();
+            assertThat(in.readDateTime()).isNull();
+            assertThat(in.readEnum(Thread.State.class)).isNull();
+            assertThat(in.readBytes()).isEmpty();
+            assertThat(in.readEnum(Thread.State.class)).isEqualTo(Thread.State.RUNNABLE);
+        }
+    }
+}
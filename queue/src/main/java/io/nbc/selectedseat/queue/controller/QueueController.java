@@ -3,9 +3,14 @@ package io.nbc.selectedseat.queue.controller;
 import io.nbc.selectedseat.queue.controller.dto.request.AllowEnterRequest;
 import io.nbc.selectedseat.queue.controller.dto.request.QueueAndMemberIdRequest;
 import io.nbc.selectedseat.queue.controller.dto.response.AllowEnterResponse;
+import io.nbc.selectedseat.queue.controller.dto.response.QueueRankResponse;
 import io.nbc.selectedseat.queue.controller.dto.response.RegisterQueueResponse;
+import io.nbc.selectedseat.queue.service.QueueNotifier;
 import io.nbc.selectedseat.queue.service.QueueWriter;
+import io.nbc.selectedseat.util.queue.AdmissionQueue;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -13,6 +18,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @RestController
@@ -21,6 +27,7 @@ import reactor.core.publisher.Mono;
 public class QueueController {
 
     private final QueueWriter queueWriter;
+    private final QueueNotifier queueNotifier;
 
     @PostMapping
     public Mono<RegisterQueueResponse> register(
@@ -38,8 +45,9 @@ public class QueueController {
     ) {
         return queueWriter.allowUser(
             allowEnterRequest.queue()
-        ).map(allow
-            -> new AllowEnterResponse(allowEnterRequest.count(), allow));
+        ).map(admission
+            -> new AllowEnterResponse(allowEnterRequest.count(),
+            (long) admission.allowed().size()));
     }
 
     @DeleteMapping("/exit")
@@ -54,7 +62,7 @@ public class QueueController {
 
     @GetMapping("/rank")
     public Mono<Long> getRank(
-        @RequestParam(name = "queue", defaultValue = "seat") String queue,
+        @RequestParam(name = "queue", defaultValue = AdmissionQueue.SEAT_QUEUE) String queue,
         @RequestParam(name = "member_id") Long memberId
     ) {
         return queueWriter.getRank(queue, memberId);
@@ -62,9 +70,17 @@ public class QueueController {
 
     @GetMapping("/allowed")
     public Mono<Boolean> isAllowedMember(
-        @RequestParam(name = "queue", defaultValue = "seat") String queue,
+        @RequestParam(name = "queue", defaultValue = AdmissionQueue.SEAT_QUEUE) String queue,
         @RequestParam(name = "member_id") Long memberId
     ) {
         return queueWriter.tryEnter(queue, memberId);
     }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<QueueRankResponse>> streamRank(
+        @RequestParam(name = "queue", defaultValue = AdmissionQueue.SEAT_QUEUE) String queue,
+        @RequestParam(name = "member_id") Long memberId
+    ) {
+        return queueNotifier.subscribe(queue, memberId);
+    }
 }
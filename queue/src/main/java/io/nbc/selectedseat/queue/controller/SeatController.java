@@ -0,0 +1,30 @@
+package io.nbc.selectedseat.queue.controller;
+
+import io.nbc.selectedseat.domain.ticket.model.TicketRating;
+import io.nbc.selectedseat.queue.controller.dto.response.SeatChangesResponse;
+import io.nbc.selectedseat.queue.service.SeatNotifier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+@RestController
+@RequestMapping("/api/v1/seats")
+@RequiredArgsConstructor
+public class SeatController {
+
+    private final SeatNotifier seatNotifier;
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<SeatChangesResponse>> streamSeats(
+        @RequestParam("concert") Long concertId,
+        @RequestParam("concertDate") Long concertDateId,
+        @RequestParam("ticketRating") TicketRating ticketRating
+    ) {
+        return seatNotifier.subscribe(concertId, concertDateId, ticketRating);
+    }
+}
@@ -0,0 +1,8 @@
+package io.nbc.selectedseat.queue.controller.dto.response;
+
+public record SeatChangeResponse(
+    Long index,
+    Boolean taken
+) {
+
+}
@@ -0,0 +1,15 @@
+package io.nbc.selectedseat.queue.controller.dto.response;
+
+import java.util.List;
+
+// a client at version since applies changes and moves to version; any other local version
+// means pushes were missed and the seat map has to be re-read. resync carries no changes:
+// the window itself lost a version, so every client has to re-read
+public record SeatChangesResponse(
+    Long since,
+    Long version,
+    boolean resync,
+    List<SeatChangeResponse> changes
+) {
+
+}
@@ -0,0 +1,71 @@
+package io.nbc.selectedseat.queue.service;
+
+import static io.nbc.selectedseat.util.queue.BackendHealthKeys.FAILURES;
+import static io.nbc.selectedseat.util.queue.BackendHealthKeys.NODE_SEPARATOR;
+import static io.nbc.selectedseat.util.queue.BackendHealthKeys.P99_MILLIS;
+import static io.nbc.selectedseat.util.queue.BackendHealthKeys.POOL_SATURATION;
+import static io.nbc.selectedseat.util.queue.BackendHealthKeys.PUBLISHED_AT;
+import static io.nbc.selectedseat.util.queue.BackendHealthKeys.REQUESTS;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+public record BackendHealth(
+    Double successRate,
+    Long p99Millis,
+    Double poolSaturation
+) {
+
+    public static final Duration NODE_STALENESS = Duration.ofSeconds(10);
+
+    // fields are "<node>:<metric>". Request and failure counts are summed over the nodes, latency
+    // and saturation take the worst node, and a node that stopped publishing is left out
+    public static Optional<BackendHealth> aggregate(
+        final Map<String, String> fields,
+        final long nowMillis
+    ) {
+        final Map<String, Map<String, String>> nodes = new HashMap<>();
+        fields.forEach((field, value) -> {
+            final int separator = field.lastIndexOf(NODE_SEPARATOR);
+            if (separator > 0) {
+                nodes.computeIfAbsent(field.substring(0, separator), node -> new HashMap<>())
+                    .put(field.substring(separator + 1), value);
+            }
+        });
+
+        long requests = 0;
+        long failures = 0;
+        long p99Millis = 0;
+        double poolSaturation = 0.0;
+        boolean live = false;
+        for (Map<String, String> node : nodes.values()) {
+            final long publishedAt = Long.parseLong(node.getOrDefault(PUBLISHED_AT, "0"));
+            if (nowMillis - publishedAt > NODE_STALENESS.toMillis()) {
+                continue;
+            }
+
+            live = true;
+            requests += Long.parseLong(node.getOrDefault(REQUESTS, "0"));
+            failures += Long.parseLong(node.getOrDefault(FAILURES, "0"));
+            p99Millis = Math.max(p99Millis, Long.parseLong(node.getOrDefault(P99_MILLIS, "0")));
+            poolSaturation = Math.max(poolSaturation,
+                Double.parseDouble(node.getOrDefault(POOL_SATURATION, "0")));
+        }
+
+        if (!live) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new BackendHealth(
+            successRate(requests, failures), p99Millis, poolSaturation));
+    }
+
+    public static double successRate(
+        final long total,
+        final long failed
+    ) {
+        return total == 0 ? 1.0 : (double) (total - failed) / total;
+    }
+}
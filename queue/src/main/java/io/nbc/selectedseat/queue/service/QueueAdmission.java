@@ -0,0 +1,16 @@
+package io.nbc.selectedseat.queue.service;
+
+import java.util.List;
+
+public record QueueAdmission(
+    Long reclaimed,
+    List<String> allowed
+) {
+
+    public static QueueAdmission from(final List<String> result) {
+        return new QueueAdmission(
+            Long.valueOf(result.get(0)),
+            List.copyOf(result.subList(1, result.size()))
+        );
+    }
+}
@@ -0,0 +1,112 @@
+package io.nbc.selectedseat.queue.service;
+
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QueueCoordinator {
+
+    public static final String QUEUE_NODES = "queue:nodes";
+    public static final String QUEUE_LEASE = "user:queue:%s:lease";
+    public static final Duration NODE_TTL = Duration.ofSeconds(10);
+    public static final Duration LEASE_TTL = Duration.ofSeconds(10);
+
+    // the lease is taken when free and renewed only by its current holder
+    private static final RedisScript<Boolean> ACQUIRE_LEASE_SCRIPT = RedisScript.of(
+        acquireLeaseScript(), Boolean.class);
+
+    private final ReactiveRedisTemplate<String, String> reactiveRedisTemplate;
+
+    @Getter
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public Mono<List<String>> heartbeat() {
+        final ReactiveZSetOperations<String, String> zSet = reactiveRedisTemplate.opsForZSet();
+        final long now = Instant.now().toEpochMilli();
+
+        return zSet.add(QUEUE_NODES, nodeId, now)
+            .then(zSet.removeRangeByScore(QUEUE_NODES,
+                Range.closed(0D, (double) (now - NODE_TTL.toMillis()))))
+            .thenMany(zSet.range(QUEUE_NODES, Range.closed(0L, -1L)))
+            .collectList();
+    }
+
+    public boolean isOwner(
+        final String queue,
+        final List<String> liveNodes
+    ) {
+        return nodeId.equals(ownerOf(queue, liveNodes));
+    }
+
+    public Mono<Boolean> acquireLease(final String queue) {
+        return reactiveRedisTemplate.execute(
+                ACQUIRE_LEASE_SCRIPT,
+                List.of(QUEUE_LEASE.formatted(queue)),
+                List.of(nodeId, String.valueOf(LEASE_TTL.toMillis())))
+            .next()
+            .defaultIfEmpty(false);
+    }
+
+    @PreDestroy
+    public void leave() {
+        reactiveRedisTemplate.opsForZSet()
+            .remove(QUEUE_NODES, nodeId)
+            .onErrorResume(ex -> {
+                log.warn("failed to leave queue nodes: {}", ex.getMessage());
+                return Mono.empty();
+            })
+            .block(Duration.ofSeconds(1));
+    }
+
+    // rendezvous hashing: every node picks the same owner from the same live node list,
+    // and only the queues of a dead or new node change hands
+    static String ownerOf(
+        final String queue,
+        final List<String> liveNodes
+    ) {
+        return liveNodes.stream()
+            .max(Comparator.comparingLong((String node) -> weight(node, queue))
+                .thenComparing(Comparator.naturalOrder()))
+            .orElse(null);
+    }
+
+    private static long weight(
+        final String node,
+        final String queue
+    ) {
+        long hash = (node + ":" + queue).hashCode();
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private static String acquireLeaseScript() {
+        return """
+            local holder = redis.call('GET', KEYS[1])
+            if holder == false or holder == ARGV[1] then
+                redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+                return 1
+            end
+
+            return 0
+            """;
+    }
+}
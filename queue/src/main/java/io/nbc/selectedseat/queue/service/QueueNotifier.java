@@ -0,0 +1,71 @@
+package io.nbc.selectedseat.queue.service;
+
+import io.nbc.selectedseat.queue.controller.dto.response.QueueRankResponse;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+// rank updates are pushed by QueueRanker.refreshOffsets, which the admission tick runs
+// right after it admits members
+@Service
+@RequiredArgsConstructor
+public class QueueNotifier {
+
+    public static final String RANK_EVENT = "rank";
+    public static final String ALLOWED_EVENT = "allowed";
+    public static final String NOT_QUEUED_EVENT = "not-queued";
+    public static final Duration KEEP_ALIVE_INTERVAL = Duration.ofSeconds(15);
+
+    private final QueueWriter queueWriter;
+    private final QueueRanker queueRanker;
+
+    public Flux<ServerSentEvent<QueueRankResponse>> subscribe(
+        final String queue,
+        final Long memberId
+    ) {
+        final Flux<QueueRankResponse> responses = queueWriter.isAllowedMember(queue, memberId)
+            .flatMapMany(isAllowed -> isAllowed
+                ? Flux.just(new QueueRankResponse(-1L, true))
+                : queueRanker.getSequence(queue, memberId)
+                    .flatMapMany(sequence -> Flux.concat(
+                            queueRanker.getOffset(queue),
+                            queueRanker.offsetUpdates(queue))
+                        .map(offset -> QueueRanker.rankOf(sequence, offset))
+                        .map(rank -> new QueueRankResponse(rank, rank < 0)))
+                    .defaultIfEmpty(new QueueRankResponse(-1L, false)));
+
+        final Flux<ServerSentEvent<QueueRankResponse>> events = responses
+            .distinctUntilChanged()
+            .takeUntil(QueueNotifier::isLast)
+            .map(response -> ServerSentEvent.<QueueRankResponse>builder()
+                .event(eventOf(response))
+                .data(response)
+                .build());
+
+        final Flux<ServerSentEvent<QueueRankResponse>> keepAlive = Flux.interval(
+                KEEP_ALIVE_INTERVAL)
+            .map(tick -> ServerSentEvent.<QueueRankResponse>builder()
+                .comment("keep-alive")
+                .build());
+
+        return events.mergeWith(keepAlive)
+            .takeUntil(event -> ALLOWED_EVENT.equals(event.event())
+                || NOT_QUEUED_EVENT.equals(event.event()));
+    }
+
+    // a member that is neither admitted nor waiting gets one not-queued event and the stream
+    // ends, rather than staying open on keep-alives alone
+    private static boolean isLast(final QueueRankResponse response) {
+        return response.allowed() || response.rank() < 0;
+    }
+
+    private static String eventOf(final QueueRankResponse response) {
+        if (response.allowed()) {
+            return ALLOWED_EVENT;
+        }
+
+        return response.rank() < 0 ? NOT_QUEUED_EVENT : RANK_EVENT;
+    }
+}
@@ -0,0 +1,140 @@
+package io.nbc.selectedseat.queue.service;
+
+import static io.nbc.selectedseat.queue.service.QueueWriter.USER_QUEUE_OFFSET;
+import static io.nbc.selectedseat.queue.service.QueueWriter.USER_WAIT_QUEUE;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+// rank = join sequence - admitted offset, both kept on this node so rank reads skip Redis
+@Component
+@RequiredArgsConstructor
+public class QueueRanker {
+
+    private final ReactiveRedisTemplate<String, String> reactiveRedisTemplate;
+    private final Map<String, Long> offsets = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Long>> sequences = new ConcurrentHashMap<>();
+    private final Map<String, Set<Sinks.Many<Long>>> listeners = new ConcurrentHashMap<>();
+
+    public void remember(
+        final String queue,
+        final Long memberId,
+        final Long sequence
+    ) {
+        sequencesOf(queue).put(memberId.toString(), sequence);
+    }
+
+    public Mono<Long> getRank(
+        final String queue,
+        final Long memberId
+    ) {
+        return getSequence(queue, memberId)
+            .zipWith(getOffset(queue), QueueRanker::rankOf)
+            .defaultIfEmpty(-1L);
+    }
+
+    public Mono<Long> getSequence(
+        final String queue,
+        final Long memberId
+    ) {
+        final Map<String, Long> memberSequences = sequencesOf(queue);
+        final Long sequence = memberSequences.get(memberId.toString());
+        if (sequence != null) {
+            return Mono.just(sequence);
+        }
+
+        return reactiveRedisTemplate.opsForZSet()
+            .score(USER_WAIT_QUEUE.formatted(queue), memberId.toString())
+            .map(Double::longValue)
+            .doOnNext(score -> memberSequences.put(memberId.toString(), score));
+    }
+
+    public Mono<Long> getOffset(final String queue) {
+        final Long offset = offsets.get(queue);
+        if (offset != null) {
+            return Mono.just(offset);
+        }
+
+        return reactiveRedisTemplate.opsForValue()
+            .get(USER_QUEUE_OFFSET.formatted(queue))
+            .map(Long::valueOf)
+            .defaultIfEmpty(0L)
+            .doOnNext(value -> offsets.putIfAbsent(queue, value));
+    }
+
+    // every subscriber gets its own sink holding only the latest offset, and the sink is
+    // dropped as soon as that subscriber's stream ends
+    public Flux<Long> offsetUpdates(final String queue) {
+        return Flux.defer(() -> {
+            final Sinks.Many<Long> sink = Sinks.many().replay().latest();
+            listeners.compute(queue, (key, sinks) -> {
+                final Set<Sinks.Many<Long>> queueSinks =
+                    sinks == null ? ConcurrentHashMap.newKeySet() : sinks;
+                queueSinks.add(sink);
+                return queueSinks;
+            });
+
+            return sink.asFlux()
+                .doFinally(signal -> removeListener(queue, sink));
+        });
+    }
+
+    // one MGET per tick for every queue this node serves, then admitted members are forgotten
+    // and the new offsets go out to every subscriber of the queue
+    public Mono<Map<String, Long>> refreshOffsets() {
+        final List<String> queues = List.copyOf(sequences.keySet());
+        if (queues.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+
+        return reactiveRedisTemplate.opsForValue()
+            .multiGet(queues.stream().map(USER_QUEUE_OFFSET::formatted).toList())
+            .map(values -> {
+                for (int i = 0; i < queues.size(); i++) {
+                    final String value = values.get(i);
+                    final long offset = value == null ? 0L : Long.parseLong(value);
+                    offsets.put(queues.get(i), offset);
+                    sequencesOf(queues.get(i)).values()
+                        .removeIf(sequence -> sequence <= offset);
+                    listeners.getOrDefault(queues.get(i), Set.of())
+                        .forEach(sink -> sink.tryEmitNext(offset));
+                }
+
+                return Map.copyOf(offsets);
+            });
+    }
+
+    public int listenerCount(final String queue) {
+        return listeners.getOrDefault(queue, Set.of()).size();
+    }
+
+    public static Long rankOf(
+        final Long sequence,
+        final Long offset
+    ) {
+        final long rank = sequence - offset;
+        return rank > 0 ? rank : -1L;
+    }
+
+    private void removeListener(
+        final String queue,
+        final Sinks.Many<Long> sink
+    ) {
+        listeners.computeIfPresent(queue, (key, sinks) -> {
+            sinks.remove(sink);
+            return sinks.isEmpty() ? null : sinks;
+        });
+    }
+
+    private Map<String, Long> sequencesOf(final String queue) {
+        return sequences.computeIfAbsent(queue, key -> new ConcurrentHashMap<>());
+    }
+}
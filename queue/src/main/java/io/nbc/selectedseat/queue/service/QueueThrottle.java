@@ -0,0 +1,70 @@
+package io.nbc.selectedseat.queue.service;
+
+import static io.nbc.selectedseat.queue.service.QueueWriter.ALLOW_MAX_QUEUE_SIZE;
+import static io.nbc.selectedseat.util.queue.BackendHealthKeys.BACKEND_HEALTH;
+
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+// AIMD over the proceed-set size: grow by a step while the web tier reports headroom,
+// halve as soon as it does not. Capacity lives in Redis so a new lease owner resumes from it
+@Component
+@RequiredArgsConstructor
+public class QueueThrottle {
+
+    public static final String USER_QUEUE_CAPACITY = "user:queue:%s:capacity";
+    public static final Long MIN_CAPACITY = 1L;
+    public static final Long MAX_CAPACITY = 1000L;
+    public static final Long ADDITIVE_STEP = 5L;
+    public static final Double MIN_SUCCESS_RATE = 0.95;
+    public static final Long MAX_P99_MILLIS = 500L;
+    public static final Double MAX_POOL_SATURATION = 0.8;
+
+    private final ReactiveRedisTemplate<String, String> reactiveRedisTemplate;
+
+    public Mono<Long> nextCapacity(final String queue) {
+        return getCapacity(queue)
+            .flatMap(capacity -> getBackendHealth()
+                .map(health -> adjust(capacity, health))
+                .defaultIfEmpty(capacity))
+            .flatMap(capacity -> reactiveRedisTemplate.opsForValue()
+                .set(USER_QUEUE_CAPACITY.formatted(queue), capacity.toString())
+                .thenReturn(capacity));
+    }
+
+    public Mono<Long> getCapacity(final String queue) {
+        return reactiveRedisTemplate.opsForValue()
+            .get(USER_QUEUE_CAPACITY.formatted(queue))
+            .map(Long::valueOf)
+            .defaultIfEmpty(ALLOW_MAX_QUEUE_SIZE);
+    }
+
+    // the health hash expires when no web node publishes, so capacity is held rather than grown
+    public Mono<BackendHealth> getBackendHealth() {
+        return reactiveRedisTemplate.<String, String>opsForHash()
+            .entries(BACKEND_HEALTH)
+            .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+            .flatMap(fields -> Mono.justOrEmpty(
+                BackendHealth.aggregate(fields, System.currentTimeMillis())));
+    }
+
+    public static Long adjust(
+        final Long capacity,
+        final BackendHealth health
+    ) {
+        if (isHealthy(health)) {
+            return Math.min(capacity + ADDITIVE_STEP, MAX_CAPACITY);
+        }
+
+        return Math.max(capacity / 2, MIN_CAPACITY);
+    }
+
+    private static boolean isHealthy(final BackendHealth health) {
+        return health.successRate() >= MIN_SUCCESS_RATE
+            && health.p99Millis() <= MAX_P99_MILLIS
+            && health.poolSaturation() <= MAX_POOL_SATURATION;
+    }
+}
@@ -1,15 +1,17 @@
 package io.nbc.selectedseat.queue.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.nbc.selectedseat.util.queue.AdmissionQueue;
+import java.time.Duration;
 import java.time.Instant;
-import java.util.Objects;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
-import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
-import reactor.util.function.Tuples;
 
 @Slf4j
 @Service
@@ -17,53 +19,96 @@ import reactor.util.function.Tuples;
 public class QueueWriter {
 
     public static final String USER_WAIT_QUEUE = "user:queue:%s:wait";
-    public static final String USER_WAIT_QUEUE_FOR_SCAN = "user:queue:*:wait";
-    public static final String USER_PROCEED_QUEUE = "user:queue:%s:proceed";
+    public static final String USER_PROCEED_QUEUE = AdmissionQueue.PROCEED_QUEUE;
+    public static final String USER_QUEUE_SEQUENCE = "user:queue:%s:sequence";
+    public static final String USER_QUEUE_OFFSET = "user:queue:%s:offset";
+    public static final String USER_QUEUE_REGISTRY = "user:queue:registry";
     public static final Long ALLOW_MAX_QUEUE_SIZE = 10L;
+    public static final Duration PROCEED_TTL = AdmissionQueue.PROCEED_TTL;
+    public static final String RECLAIMED_METRIC = "queue.admission.reclaimed";
+    public static final String CAPACITY_METRIC = "queue.admission.capacity";
+
+    // expired slots are reclaimed and capacity check, pop and move run as one script so concurrent
+    // schedulers cannot over-admit, and a drained queue leaves the registry in the same call
+    private static final RedisScript<List> ALLOW_USER_SCRIPT = RedisScript.of(
+        allowUserScript(), List.class);
+
+    // the join sequence is issued and used as the score in one call, so sequences in the wait
+    // queue stay gapless and the admitted offset is the sequence of the last admitted member.
+    // a retried join returns the original sequence, or 0 once the member has been admitted
+    private static final RedisScript<Long> REGISTER_SCRIPT = RedisScript.of(
+        registerScript(), Long.class);
+
+    // shared with the web tier, which extends the same proceed set on every seat call
+    private static final RedisScript<Boolean> EXTEND_ADMISSION_SCRIPT = RedisScript.of(
+        AdmissionQueue.EXTEND_ADMISSION_SCRIPT, Boolean.class);
 
     private final ReactiveRedisTemplate<String, String> reactiveRedisTemplate;
+    private final QueueCoordinator queueCoordinator;
+    private final QueueRanker queueRanker;
+    private final QueueThrottle queueThrottle;
+    private final MeterRegistry meterRegistry;
 
     public Mono<Long> registerToQueue(
         final String queue,
         final Long memberId
     ) {
-        return reactiveRedisTemplate.opsForZSet()
-            .add(USER_WAIT_QUEUE.formatted(queue), memberId.toString(),
-                Instant.now().getEpochSecond())
-            .filter(rs -> rs)
-            .switchIfEmpty(
-                Mono.error(new Exception("[ERROR]"))) // TODO: will be replace to custom exception
-            .flatMap(rs -> reactiveRedisTemplate.opsForZSet()
-                .rank(USER_WAIT_QUEUE.formatted(queue), memberId.toString()))
-            .map(i -> i >= 0 ? i + 1 : i);
+        return reactiveRedisTemplate.execute(
+                REGISTER_SCRIPT,
+                List.of(USER_WAIT_QUEUE.formatted(queue),
+                    USER_QUEUE_SEQUENCE.formatted(queue),
+                    USER_QUEUE_REGISTRY,
+                    USER_PROCEED_QUEUE.formatted(queue)),
+                List.of(memberId.toString(),
+                    queue,
+                    String.valueOf(Instant.now().toEpochMilli())))
+            .next()
+            .flatMap(sequence -> {
+                if (sequence == 0) {
+                    return Mono.just(0L);
+                }
+
+                queueRanker.remember(queue, memberId, sequence);
+                return queueRanker.getRank(queue, memberId);
+            });
     }
 
-    public Mono<Long> allowUser(final String queue) {
-        return reactiveRedisTemplate.opsForZSet()
-            .size(USER_PROCEED_QUEUE.formatted(queue))
-            .flatMap(size -> Mono.just(ALLOW_MAX_QUEUE_SIZE - size))
-            .flatMap(count -> count > 0
-                ? reactiveRedisTemplate.opsForZSet()
-                .popMin(USER_WAIT_QUEUE.formatted(queue), count)
-                .flatMap(member -> reactiveRedisTemplate.opsForZSet()
-                    .add(USER_PROCEED_QUEUE.formatted(queue),
-                        Objects.requireNonNull(member.getValue()),
-                        Instant.now().getEpochSecond()))
-                .count()
-                : Mono.just(0L)
-            );
+    public Mono<QueueAdmission> allowUser(final String queue) {
+        return allowUser(queue, ALLOW_MAX_QUEUE_SIZE);
+    }
+
+    public Mono<QueueAdmission> allowUser(
+        final String queue,
+        final Long capacity
+    ) {
+        final long now = Instant.now().toEpochMilli();
+
+        return reactiveRedisTemplate.execute(
+                ALLOW_USER_SCRIPT,
+                List.of(USER_PROCEED_QUEUE.formatted(queue),
+                    USER_WAIT_QUEUE.formatted(queue),
+                    USER_QUEUE_REGISTRY,
+                    USER_QUEUE_OFFSET.formatted(queue)),
+                List.of(capacity.toString(),
+                    String.valueOf(now + PROCEED_TTL.toMillis()),
+                    queue,
+                    String.valueOf(now)))
+            .flatMapIterable(result -> (List<?>) result)
+            .map(String::valueOf)
+            .collectList()
+            .map(QueueAdmission::from);
     }
 
     public Mono<Boolean> tryEnter(
         final String queue,
         final Long memberId
     ) {
-        return isAllowedMember(queue, memberId)
+        return extendAdmission(queue, memberId)
             .filter(isAllow -> isAllow)
             .switchIfEmpty(
                 registerToQueue(queue, memberId)
                     .onErrorResume(ex -> Mono.just(-1L))
-                    .map(i -> false)
+                    .map(rank -> rank == 0)
             );
     }
 
@@ -72,19 +117,32 @@ public class QueueWriter {
         final Long userId
     ) {
         return reactiveRedisTemplate.opsForZSet()
-            .rank(USER_PROCEED_QUEUE.formatted(queue), userId.toString())
-            .defaultIfEmpty(-1L)
-            .map(rank -> rank >= 0);
+            .score(USER_PROCEED_QUEUE.formatted(queue), userId.toString())
+            .map(deadline -> deadline >= Instant.now().toEpochMilli())
+            .defaultIfEmpty(false);
+    }
+
+    public Mono<Boolean> extendAdmission(
+        final String queue,
+        final Long memberId
+    ) {
+        final long now = Instant.now().toEpochMilli();
+
+        return reactiveRedisTemplate.execute(
+                EXTEND_ADMISSION_SCRIPT,
+                List.of(USER_PROCEED_QUEUE.formatted(queue)),
+                List.of(memberId.toString(),
+                    String.valueOf(now),
+                    String.valueOf(now + PROCEED_TTL.toMillis())))
+            .next()
+            .defaultIfEmpty(false);
     }
 
     public Mono<Long> getRank(
         final String queue,
         final Long memberId
     ) {
-        return reactiveRedisTemplate.opsForZSet()
-            .rank(USER_WAIT_QUEUE.formatted(queue), memberId.toString())
-            .defaultIfEmpty(-1L)
-            .map(rank -> rank >= 0 ? rank + 1 : rank);
+        return queueRanker.getRank(queue, memberId);
     }
 
     public Mono<Long> exitQueue(
@@ -100,15 +158,73 @@ public class QueueWriter {
             .size(USER_WAIT_QUEUE.formatted(queue));
     }
 
-    @Scheduled(initialDelay = 5000, fixedDelay = 3000)
+    // capacity is adapted every tick, so the tick itself can stay short. Every node refreshes
+    // its offsets once its own admissions are done, so waiting members see the new rank
+    // in the same tick instead of on a separate timer
+    @Scheduled(initialDelay = 5000, fixedDelay = 1000)
     public void scheduleAllowUser() {
-        reactiveRedisTemplate.scan(ScanOptions.scanOptions()
-                .match(USER_WAIT_QUEUE_FOR_SCAN)
-                .count(100)
-                .build())
-            .map(key -> key.split(":")[2])
-            .flatMap(queue -> allowUser(queue).map(
-                allowed -> Tuples.of(queue, allowed)))
-            .subscribe();
+        queueCoordinator.heartbeat()
+            .flatMapMany(liveNodes -> reactiveRedisTemplate.opsForSet()
+                .members(USER_QUEUE_REGISTRY)
+                .filter(queue -> queueCoordinator.isOwner(queue, liveNodes)))
+            .filterWhen(queueCoordinator::acquireLease)
+            .flatMap(queue -> queueThrottle.nextCapacity(queue)
+                .doOnNext(capacity -> meterRegistry.summary(CAPACITY_METRIC, "queue", queue)
+                    .record(capacity))
+                .flatMap(capacity -> allowUser(queue, capacity))
+                .doOnNext(admission -> meterRegistry.summary(RECLAIMED_METRIC, "queue", queue)
+                    .record(admission.reclaimed())))
+            .then()
+            .onErrorResume(ex -> {
+                log.warn("failed to admit users: {}", ex.getMessage());
+                return Mono.empty();
+            })
+            .then(Mono.defer(queueRanker::refreshOffsets))
+            .subscribe(offsets -> {},
+                ex -> log.warn("failed to publish ranks: {}", ex.getMessage()));
+    }
+
+    private static String allowUserScript() {
+        return """
+            local reclaimed = redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', '(' .. ARGV[4])
+            local result = {reclaimed}
+            local count = tonumber(ARGV[1]) - redis.call('ZCARD', KEYS[1])
+            if count > 0 then
+                local popped = redis.call('ZPOPMIN', KEYS[2], count)
+                for i = 1, #popped, 2 do
+                    redis.call('ZADD', KEYS[1], ARGV[2], popped[i])
+                    result[#result + 1] = popped[i]
+                end
+
+                if #popped > 0 then
+                    redis.call('SET', KEYS[4], popped[#popped])
+                end
+            end
+
+            if redis.call('ZCARD', KEYS[2]) == 0 then
+                redis.call('SREM', KEYS[3], ARGV[3])
+            end
+
+            return result
+            """;
+    }
+
+    private static String registerScript() {
+        return """
+            local sequence = redis.call('ZSCORE', KEYS[1], ARGV[1])
+            if sequence then
+                return tonumber(sequence)
+            end
+
+            local deadline = redis.call('ZSCORE', KEYS[4], ARGV[1])
+            if deadline and tonumber(deadline) >= tonumber(ARGV[3]) then
+                return 0
+            end
+
+            sequence = redis.call('INCR', KEYS[2])
+            redis.call('ZADD', KEYS[1], sequence, ARGV[1])
+            redis.call('SADD', KEYS[3], ARGV[2])
+            return sequence
+            """;
     }
 }
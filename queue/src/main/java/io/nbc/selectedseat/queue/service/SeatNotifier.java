@@ -0,0 +1,188 @@
+package io.nbc.selectedseat.queue.service;
+
+import static io.nbc.selectedseat.util.seat.SeatChannel.SEAT_CHANNEL;
+import static io.nbc.selectedseat.util.seat.SeatChannel.SEAT_CHANNEL_PATTERN;
+
+import io.nbc.selectedseat.domain.ticket.model.TicketRating;
+import io.nbc.selectedseat.queue.controller.dto.response.SeatChangeResponse;
+import io.nbc.selectedseat.queue.controller.dto.response.SeatChangesResponse;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.ReactiveSubscription.Message;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+// seat scripts publish every bit flip as "version:index:bit" on the seat map's change log
+// channel. One pattern subscription per node receives them, and each window is folded into
+// a single event per seat map before it is fanned out to the connected clients
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatNotifier {
+
+    public static final String SEATS_EVENT = "seats";
+    public static final Duration COALESCE_INTERVAL = Duration.ofMillis(150);
+    public static final Duration KEEP_ALIVE_INTERVAL = Duration.ofSeconds(15);
+    public static final Duration RESUBSCRIBE_DELAY = Duration.ofSeconds(1);
+
+    private final ReactiveRedisTemplate<String, String> reactiveRedisTemplate;
+    private final Map<String, Set<Sinks.Many<SeatChangesResponse>>> listeners =
+        new ConcurrentHashMap<>();
+    private volatile Disposable subscription;
+    private volatile boolean stopped;
+
+    // a failed first subscribe (Redis not up yet) is retried like a dropped subscription
+    @PostConstruct
+    public void start() {
+        if (stopped) {
+            return;
+        }
+
+        listen().subscribe(null, ex -> {
+            log.warn("failed to subscribe to seat changes: {}", ex.getMessage());
+            resubscribeLater();
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        stopped = true;
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    // completes once the pattern subscription is live
+    public Mono<Void> listen() {
+        return reactiveRedisTemplate.listenToPatternLater(SEAT_CHANNEL_PATTERN)
+            .doOnNext(messages -> subscription = messages
+                .buffer(COALESCE_INTERVAL)
+                .filter(batch -> !batch.isEmpty())
+                .subscribe(this::publish, ex -> {
+                    log.warn("seat change subscription dropped: {}", ex.getMessage());
+                    resubscribeLater();
+                }))
+            .then();
+    }
+
+    public Flux<ServerSentEvent<SeatChangesResponse>> subscribe(
+        final Long concertId,
+        final Long concertDateId,
+        final TicketRating ticketRating
+    ) {
+        final String channel = SEAT_CHANNEL.formatted(concertId, concertDateId, ticketRating);
+
+        final Flux<ServerSentEvent<SeatChangesResponse>> events = changeUpdates(channel)
+            .map(response -> ServerSentEvent.<SeatChangesResponse>builder()
+                .event(SEATS_EVENT)
+                .data(response)
+                .build());
+
+        final Flux<ServerSentEvent<SeatChangesResponse>> keepAlive = Flux.interval(
+                KEEP_ALIVE_INTERVAL)
+            .map(tick -> ServerSentEvent.<SeatChangesResponse>builder()
+                .comment("keep-alive")
+                .build());
+
+        return events.mergeWith(keepAlive);
+    }
+
+    public int listenerCount(
+        final Long concertId,
+        final Long concertDateId,
+        final TicketRating ticketRating
+    ) {
+        return listeners.getOrDefault(
+            SEAT_CHANNEL.formatted(concertId, concertDateId, ticketRating), Set.of()).size();
+    }
+
+    private void resubscribeLater() {
+        Mono.delay(RESUBSCRIBE_DELAY).subscribe(tick -> start());
+    }
+
+    private void publish(final List<? extends Message<String, String>> batch) {
+        batch.stream()
+            .collect(Collectors.groupingBy(Message::getChannel, LinkedHashMap::new,
+                Collectors.mapping(Message::getMessage, Collectors.toList())))
+            .forEach((channel, changes) -> {
+                final Set<Sinks.Many<SeatChangesResponse>> sinks = listeners.get(channel);
+                if (sinks != null && !sinks.isEmpty()) {
+                    final SeatChangesResponse response = coalesce(changes);
+                    sinks.forEach(sink -> sink.tryEmitNext(response));
+                }
+            });
+    }
+
+    // only the last flip of a seat within the window is kept. since assumes the window holds
+    // every version from its lowest to its highest; pub/sub may drop a message, and a missing
+    // version in between turns the event into a resync marker
+    public static SeatChangesResponse coalesce(final List<String> changes) {
+        long since = Long.MAX_VALUE;
+        long version = 0L;
+        final Set<Long> versions = new HashSet<>();
+        final Map<Long, Boolean> seats = new LinkedHashMap<>();
+
+        for (String change : changes) {
+            final String[] tokens = change.split(":");
+            final long changeVersion = Long.parseLong(tokens[0]);
+            since = Math.min(since, changeVersion - 1);
+            version = Math.max(version, changeVersion);
+            versions.add(changeVersion);
+
+            final Long index = Long.parseLong(tokens[1]);
+            seats.remove(index);
+            seats.put(index, "1".equals(tokens[2]));
+        }
+
+        if (versions.size() != version - since) {
+            return new SeatChangesResponse(since, version, true, List.of());
+        }
+
+        return new SeatChangesResponse(since, version, false, seats.entrySet().stream()
+            .map(seat -> new SeatChangeResponse(seat.getKey(), seat.getValue()))
+            .toList());
+    }
+
+    // every subscriber gets its own sink, and a seat map's entry is dropped together with its
+    // last subscriber, so channels nobody watches do not pile up
+    private Flux<SeatChangesResponse> changeUpdates(final String channel) {
+        return Flux.defer(() -> {
+            final Sinks.Many<SeatChangesResponse> sink =
+                Sinks.many().multicast().directBestEffort();
+            listeners.compute(channel, (key, sinks) -> {
+                final Set<Sinks.Many<SeatChangesResponse>> channelSinks =
+                    sinks == null ? ConcurrentHashMap.newKeySet() : sinks;
+                channelSinks.add(sink);
+                return channelSinks;
+            });
+
+            return sink.asFlux()
+                .doFinally(signal -> removeListener(channel, sink));
+        });
+    }
+
+    private void removeListener(
+        final String channel,
+        final Sinks.Many<SeatChangesResponse> sink
+    ) {
+        listeners.computeIfPresent(channel, (key, sinks) -> {
+            sinks.remove(sink);
+            return sinks.isEmpty() ? null : sinks;
+        });
+    }
+}
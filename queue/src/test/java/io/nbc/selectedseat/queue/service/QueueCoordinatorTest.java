@@ -0,0 +1,89 @@
+package io.nbc.selectedseat.queue.service;
+
+import static io.nbc.selectedseat.queue.service.QueueCoordinator.QUEUE_LEASE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.nbc.selectedseat.queue.support.EmbeddedRedisSupport;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class QueueCoordinatorTest extends EmbeddedRedisSupport {
+
+    private static final String QUEUE = "seat";
+
+    @Nested
+    class heartbeat_노드_소유권_테스트 {
+
+        @Test
+        void 모든_대기열은_살아있는_노드_중_정확히_하나가_소유한다() {
+            //given
+            List<QueueCoordinator> coordinators = IntStream.range(0, 3)
+                .mapToObj(i -> new QueueCoordinator(reactiveRedisTemplate))
+                .toList();
+            coordinators.forEach(coordinator -> coordinator.heartbeat().block());
+            List<String> liveNodes = coordinators.get(0).heartbeat().block();
+
+            //when-then
+            assertThat(liveNodes).hasSize(3);
+            IntStream.range(0, 100).mapToObj(i -> "queue" + i)
+                .forEach(queue -> assertThat(coordinators.stream()
+                    .filter(coordinator -> coordinator.isOwner(queue, liveNodes))
+                    .count()).isEqualTo(1));
+        }
+
+        @Test
+        void 노드가_빠지면_남은_노드가_대기열을_넘겨받는다() {
+            //given
+            QueueCoordinator first = new QueueCoordinator(reactiveRedisTemplate);
+            QueueCoordinator second = new QueueCoordinator(reactiveRedisTemplate);
+            first.heartbeat().block();
+            List<String> liveNodes = second.heartbeat().block();
+            QueueCoordinator owner = first.isOwner(QUEUE, liveNodes) ? first : second;
+            QueueCoordinator survivor = owner == first ? second : first;
+
+            //when
+            owner.leave();
+            List<String> remainNodes = survivor.heartbeat().block();
+
+            //then
+            assertThat(remainNodes).containsExactly(survivor.getNodeId());
+            assertThat(survivor.isOwner(QUEUE, remainNodes)).isTrue();
+        }
+    }
+
+    @Nested
+    class acquireLease_대기열_임대_테스트 {
+
+        @Test
+        void 임대는_한_노드만_획득하고_보유한_노드는_갱신할_수_있다() {
+            //given
+            QueueCoordinator first = new QueueCoordinator(reactiveRedisTemplate);
+            QueueCoordinator second = new QueueCoordinator(reactiveRedisTemplate);
+
+            //when-then
+            assertThat(first.acquireLease(QUEUE).block()).isTrue();
+            assertThat(second.acquireLease(QUEUE).block()).isFalse();
+            assertThat(first.acquireLease(QUEUE).block()).isTrue();
+        }
+
+        @Test
+        void 임대가_만료되면_다른_노드가_획득한다() {
+            //given
+            QueueCoordinator first = new QueueCoordinator(reactiveRedisTemplate);
+            QueueCoordinator second = new QueueCoordinator(reactiveRedisTemplate);
+            first.acquireLease(QUEUE).block();
+
+            //when
+            reactiveRedisTemplate.delete(QUEUE_LEASE.formatted(QUEUE)).block();
+
+            //then
+            assertThat(second.acquireLease(QUEUE).block()).isTrue();
+            assertThat(first.acquireLease(QUEUE).block()).isFalse();
+        }
+    }
+}
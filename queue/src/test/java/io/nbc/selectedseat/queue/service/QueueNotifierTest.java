@@ -0,0 +1,118 @@
+package io.nbc.selectedseat.queue.service;
+
+import static io.nbc.selectedseat.queue.service.QueueNotifier.ALLOWED_EVENT;
+import static io.nbc.selectedseat.queue.service.QueueNotifier.NOT_QUEUED_EVENT;
+import static io.nbc.selectedseat.queue.service.QueueNotifier.RANK_EVENT;
+import static io.nbc.selectedseat.queue.service.QueueWriter.USER_PROCEED_QUEUE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.nbc.selectedseat.queue.support.EmbeddedRedisSupport;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class QueueNotifierTest extends EmbeddedRedisSupport {
+
+    private static final String QUEUE = "seat";
+
+    private QueueRanker queueRanker;
+    private QueueWriter queueWriter;
+    private QueueNotifier queueNotifier;
+
+    @BeforeEach
+    void init() {
+        queueRanker = new QueueRanker(reactiveRedisTemplate);
+        queueWriter = new QueueWriter(reactiveRedisTemplate,
+            new QueueCoordinator(reactiveRedisTemplate), queueRanker,
+            new QueueThrottle(reactiveRedisTemplate), new SimpleMeterRegistry());
+        queueNotifier = new QueueNotifier(queueWriter, queueRanker);
+    }
+
+    private void registerMembers(final long size) {
+        Flux.range(1, (int) size)
+            .concatMap(memberId -> queueWriter.registerToQueue(QUEUE, (long) memberId))
+            .blockLast();
+    }
+
+    @Nested
+    class subscribe_대기_순위_구독_테스트 {
+
+        @Test
+        void 순위가_바뀔_때마다_알리고_입장하면_스트림을_종료한다() {
+            //given
+            registerMembers(15L);
+
+            //when-then
+            StepVerifier.create(queueNotifier.subscribe(QUEUE, 15L))
+                .assertNext(event -> {
+                    assertThat(event.event()).isEqualTo(RANK_EVENT);
+                    assertThat(event.data().rank()).isEqualTo(15L);
+                })
+                .then(() -> {
+                    queueWriter.allowUser(QUEUE).block();
+                    queueRanker.refreshOffsets().block();
+                })
+                .assertNext(event -> {
+                    assertThat(event.event()).isEqualTo(RANK_EVENT);
+                    assertThat(event.data().rank()).isEqualTo(5L);
+                })
+                .then(() -> {
+                    queueWriter.exitQueue(QUEUE, 1L).block();
+                    queueWriter.allowUser(QUEUE).block();
+                    queueRanker.refreshOffsets().block();
+                })
+                .assertNext(event -> {
+                    assertThat(event.event()).isEqualTo(RANK_EVENT);
+                    assertThat(event.data().rank()).isEqualTo(4L);
+                })
+                .then(() -> {
+                    reactiveRedisTemplate.delete(USER_PROCEED_QUEUE.formatted(QUEUE)).block();
+                    queueWriter.allowUser(QUEUE).block();
+                    queueRanker.refreshOffsets().block();
+                })
+                .assertNext(event -> {
+                    assertThat(event.event()).isEqualTo(ALLOWED_EVENT);
+                    assertThat(event.data().allowed()).isTrue();
+                })
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+            assertThat(queueRanker.listenerCount(QUEUE)).isZero();
+        }
+
+        @Test
+        void 대기열에_없는_회원은_알림_한_번으로_스트림을_종료한다() {
+            //when-then
+            StepVerifier.create(queueNotifier.subscribe(QUEUE, 1L))
+                .assertNext(event -> {
+                    assertThat(event.event()).isEqualTo(NOT_QUEUED_EVENT);
+                    assertThat(event.data().allowed()).isFalse();
+                })
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+        }
+
+        @Test
+        void 구독을_취소하면_순위_알림_대상에서_빠진다() {
+            //given
+            registerMembers(15L);
+
+            //when
+            StepVerifier.create(queueNotifier.subscribe(QUEUE, 15L))
+                .assertNext(event -> assertThat(event.event()).isEqualTo(RANK_EVENT))
+                .then(() -> assertThat(queueRanker.listenerCount(QUEUE)).isEqualTo(1))
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+
+            //then
+            assertThat(queueRanker.listenerCount(QUEUE)).isZero();
+        }
+    }
+}
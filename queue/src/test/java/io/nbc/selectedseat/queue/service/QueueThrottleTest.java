@@ -0,0 +1,145 @@
+package io.nbc.selectedseat.queue.service;
+
+import static io.nbc.selectedseat.queue.service.BackendHealth.NODE_STALENESS;
+import static io.nbc.selectedseat.queue.service.QueueThrottle.ADDITIVE_STEP;
+import static io.nbc.selectedseat.queue.service.QueueThrottle.MAX_CAPACITY;
+import static io.nbc.selectedseat.queue.service.QueueThrottle.MIN_CAPACITY;
+import static io.nbc.selectedseat.queue.service.QueueWriter.ALLOW_MAX_QUEUE_SIZE;
+import static io.nbc.selectedseat.util.queue.BackendHealthKeys.BACKEND_HEALTH;
+import static io.nbc.selectedseat.util.queue.BackendHealthKeys.FAILURES;
+import static io.nbc.selectedseat.util.queue.BackendHealthKeys.P99_MILLIS;
+import static io.nbc.selectedseat.util.queue.BackendHealthKeys.POOL_SATURATION;
+import static io.nbc.selectedseat.util.queue.BackendHealthKeys.PUBLISHED_AT;
+import static io.nbc.selectedseat.util.queue.BackendHealthKeys.REQUESTS;
+import static io.nbc.selectedseat.util.queue.BackendHealthKeys.field;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.nbc.selectedseat.queue.support.EmbeddedRedisSupport;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class QueueThrottleTest extends EmbeddedRedisSupport {
+
+    private static final String QUEUE = "seat";
+
+    private QueueThrottle queueThrottle;
+
+    @BeforeEach
+    void setUp() {
+        queueThrottle = new QueueThrottle(reactiveRedisTemplate);
+    }
+
+    @Nested
+    class nextCapacity_입장_허용량_조정_테스트 {
+
+        @Test
+        void 백엔드에_여유가_있으면_허용량이_일정량씩_늘어난다() {
+            //given
+            publishHealth("web-1", "100", "0", "120", "0.3");
+
+            //when
+            Long first = queueThrottle.nextCapacity(QUEUE).block();
+            Long second = queueThrottle.nextCapacity(QUEUE).block();
+
+            //then
+            assertThat(first).isEqualTo(ALLOW_MAX_QUEUE_SIZE + ADDITIVE_STEP);
+            assertThat(second).isEqualTo(ALLOW_MAX_QUEUE_SIZE + ADDITIVE_STEP * 2);
+        }
+
+        @Test
+        void 지연이나_커넥션_포화가_관측되면_허용량이_절반으로_줄어든다() {
+            //given
+            publishHealth("web-1", "100", "0", "1500", "0.3");
+            Long slow = queueThrottle.nextCapacity(QUEUE).block();
+            publishHealth("web-1", "100", "0", "120", "0.95");
+
+            //when
+            Long saturated = queueThrottle.nextCapacity(QUEUE).block();
+
+            //then
+            assertThat(slow).isEqualTo(ALLOW_MAX_QUEUE_SIZE / 2);
+            assertThat(saturated).isEqualTo(ALLOW_MAX_QUEUE_SIZE / 4);
+        }
+
+        @Test
+        void 여러_노드의_실패는_합산해서_판단한다() {
+            //given
+            publishHealth("web-1", "100", "0", "120", "0.3");
+            publishHealth("web-2", "100", "20", "120", "0.3");
+
+            //when
+            Long capacity = queueThrottle.nextCapacity(QUEUE).block();
+
+            //then
+            assertThat(capacity).isEqualTo(ALLOW_MAX_QUEUE_SIZE / 2);
+        }
+
+        @Test
+        void 발행을_멈춘_노드의_지표는_무시한다() {
+            //given
+            publishHealth("web-1", "100", "0", "120", "0.3");
+            publishHealth("web-2", "100", "100", "1500", "0.95",
+                System.currentTimeMillis() - NODE_STALENESS.toMillis() * 2);
+
+            //when
+            Long capacity = queueThrottle.nextCapacity(QUEUE).block();
+
+            //then
+            assertThat(capacity).isEqualTo(ALLOW_MAX_QUEUE_SIZE + ADDITIVE_STEP);
+        }
+
+        @Test
+        void 지표가_없으면_허용량을_유지한다() {
+            //when
+            Long capacity = queueThrottle.nextCapacity(QUEUE).block();
+
+            //then
+            assertThat(capacity).isEqualTo(ALLOW_MAX_QUEUE_SIZE);
+        }
+
+        @Test
+        void 허용량은_최소값과_최대값을_벗어나지_않는다() {
+            //given
+            BackendHealth healthy = new BackendHealth(1.0, 0L, 0.0);
+            BackendHealth failing = new BackendHealth(0.5, 0L, 0.0);
+
+            //when-then
+            assertThat(QueueThrottle.adjust(MAX_CAPACITY, healthy)).isEqualTo(MAX_CAPACITY);
+            assertThat(QueueThrottle.adjust(MIN_CAPACITY, failing)).isEqualTo(MIN_CAPACITY);
+        }
+    }
+
+    private void publishHealth(
+        final String node,
+        final String requests,
+        final String failures,
+        final String p99Millis,
+        final String poolSaturation
+    ) {
+        publishHealth(node, requests, failures, p99Millis, poolSaturation,
+            System.currentTimeMillis());
+    }
+
+    private void publishHealth(
+        final String node,
+        final String requests,
+        final String failures,
+        final String p99Millis,
+        final String poolSaturation,
+        final long publishedAt
+    ) {
+        reactiveRedisTemplate.<String, String>opsForHash()
+            .putAll(BACKEND_HEALTH, Map.of(
+                field(node, REQUESTS), requests,
+                field(node, FAILURES), failures,
+                field(node, P99_MILLIS), p99Millis,
+                field(node, POOL_SATURATION), poolSaturation,
+                field(node, PUBLISHED_AT), String.valueOf(publishedAt)))
+            .block();
+    }
+}
@@ -0,0 +1,296 @@
+package io.nbc.selectedseat.queue.service;
+
+import static io.nbc.selectedseat.queue.service.QueueWriter.ALLOW_MAX_QUEUE_SIZE;
+import static io.nbc.selectedseat.queue.service.QueueWriter.USER_PROCEED_QUEUE;
+import static io.nbc.selectedseat.queue.service.QueueWriter.USER_QUEUE_REGISTRY;
+import static io.nbc.selectedseat.queue.service.QueueWriter.USER_WAIT_QUEUE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.nbc.selectedseat.queue.support.EmbeddedRedisSupport;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class QueueWriterTest extends EmbeddedRedisSupport {
+
+    private static final String QUEUE = "seat";
+    private static final long MEMBER_SIZE = 100L;
+
+    private QueueRanker queueRanker;
+    private QueueWriter queueWriter;
+
+    @BeforeEach
+    void init() {
+        queueRanker = new QueueRanker(reactiveRedisTemplate);
+        queueWriter = new QueueWriter(reactiveRedisTemplate,
+            new QueueCoordinator(reactiveRedisTemplate), queueRanker,
+            new QueueThrottle(reactiveRedisTemplate), new SimpleMeterRegistry());
+    }
+
+    private void registerMembers(final long size) {
+        Flux.range(1, (int) size)
+            .concatMap(memberId -> queueWriter.registerToQueue(QUEUE, (long) memberId))
+            .blockLast();
+    }
+
+    @Nested
+    class allowUser_대기열_입장_테스트 {
+
+        @Test
+        void 최대_인원만큼_입장시키고_입장한_멤버_아이디를_반환한다() {
+            //given
+            registerMembers(MEMBER_SIZE);
+
+            //when
+            List<String> allowed = queueWriter.allowUser(QUEUE).block().allowed();
+
+            //then
+            assertThat(allowed).hasSize(ALLOW_MAX_QUEUE_SIZE.intValue());
+            assertThat(queueWriter.getQueueSize(QUEUE).block())
+                .isEqualTo(MEMBER_SIZE - ALLOW_MAX_QUEUE_SIZE);
+            assertThat(allowed).allMatch(memberId ->
+                Boolean.TRUE.equals(
+                    queueWriter.isAllowedMember(QUEUE, Long.valueOf(memberId)).block()));
+        }
+
+        @Test
+        void 입장_인원이_가득_차면_아무도_입장시키지_않는다() {
+            //given
+            registerMembers(MEMBER_SIZE);
+            queueWriter.allowUser(QUEUE).block();
+
+            //when
+            List<String> allowed = queueWriter.allowUser(QUEUE).block().allowed();
+
+            //then
+            assertThat(allowed).isEmpty();
+            assertThat(queueWriter.getQueueSize(QUEUE).block())
+                .isEqualTo(MEMBER_SIZE - ALLOW_MAX_QUEUE_SIZE);
+        }
+
+        @Test
+        void 대기열이_비어있으면_빈_목록을_반환한다() {
+            //when
+            List<String> allowed = queueWriter.allowUser(QUEUE).block().allowed();
+
+            //then
+            assertThat(allowed).isEmpty();
+        }
+
+        @Test
+        void 동시에_여러_스케줄러가_실행되어도_최대_인원을_초과하지_않는다() {
+            //given
+            registerMembers(MEMBER_SIZE);
+
+            //when
+            List<String> allowed = Flux.range(0, 16)
+                .parallel()
+                .runOn(Schedulers.parallel())
+                .flatMap(i -> queueWriter.allowUser(QUEUE))
+                .sequential()
+                .flatMapIterable(QueueAdmission::allowed)
+                .collectList()
+                .block();
+
+            //then
+            assertThat(allowed).hasSize(ALLOW_MAX_QUEUE_SIZE.intValue())
+                .doesNotHaveDuplicates();
+            assertThat(reactiveRedisTemplate.opsForZSet()
+                .size(USER_PROCEED_QUEUE.formatted(QUEUE)).block())
+                .isEqualTo(ALLOW_MAX_QUEUE_SIZE);
+            assertThat(reactiveRedisTemplate.opsForZSet()
+                .size(USER_WAIT_QUEUE.formatted(QUEUE)).block())
+                .isEqualTo(MEMBER_SIZE - ALLOW_MAX_QUEUE_SIZE);
+        }
+    }
+
+    @Nested
+    class registerToQueue_대기열_등록_테스트 {
+
+        @Test
+        void 다시_등록해도_처음_순위를_유지한다() {
+            //given
+            registerMembers(MEMBER_SIZE);
+
+            //when
+            Long rank = queueWriter.registerToQueue(QUEUE, 1L).block();
+
+            //then
+            assertThat(rank).isEqualTo(1L);
+            assertThat(reactiveRedisTemplate.opsForZSet()
+                .size(USER_WAIT_QUEUE.formatted(QUEUE)).block()).isEqualTo(MEMBER_SIZE);
+            assertThat(queueWriter.registerToQueue(QUEUE, MEMBER_SIZE + 1).block())
+                .isEqualTo(MEMBER_SIZE + 1);
+        }
+
+        @Test
+        void 입장한_멤버가_다시_등록하면_대기열에_추가하지_않는다() {
+            //given
+            registerMembers(1L);
+            queueWriter.allowUser(QUEUE).block();
+
+            //when
+            Long rank = queueWriter.registerToQueue(QUEUE, 1L).block();
+
+            //then
+            assertThat(rank).isZero();
+            assertThat(reactiveRedisTemplate.opsForZSet()
+                .size(USER_WAIT_QUEUE.formatted(QUEUE)).block()).isZero();
+        }
+    }
+
+    @Nested
+    class registry_대기열_목록_테스트 {
+
+        @Test
+        void 대기열에_등록하면_대기열_목록에_추가된다() {
+            //when
+            registerMembers(1L);
+
+            //then
+            assertThat(reactiveRedisTemplate.opsForSet()
+                .isMember(USER_QUEUE_REGISTRY, QUEUE).block()).isTrue();
+        }
+
+        @Test
+        void 대기열이_모두_입장하면_대기열_목록에서_제거된다() {
+            //given
+            registerMembers(ALLOW_MAX_QUEUE_SIZE);
+
+            //when
+            queueWriter.allowUser(QUEUE).block();
+
+            //then
+            assertThat(reactiveRedisTemplate.opsForSet()
+                .isMember(USER_QUEUE_REGISTRY, QUEUE).block()).isFalse();
+        }
+
+        @Test
+        void 대기_인원이_남아있으면_대기열_목록에_유지된다() {
+            //given
+            registerMembers(MEMBER_SIZE);
+
+            //when
+            queueWriter.allowUser(QUEUE).block();
+
+            //then
+            assertThat(reactiveRedisTemplate.opsForSet()
+                .isMember(USER_QUEUE_REGISTRY, QUEUE).block()).isTrue();
+        }
+    }
+
+    @Nested
+    class getRank_대기_순위_조회_테스트 {
+
+        @Test
+        void 등록_순서대로_순위를_반환한다() {
+            //given
+            registerMembers(MEMBER_SIZE);
+
+            //when-then
+            LongStream.rangeClosed(1, MEMBER_SIZE).forEach(memberId ->
+                assertThat(queueWriter.getRank(QUEUE, memberId).block())
+                    .isEqualTo(memberId));
+        }
+
+        @Test
+        void 입장이_진행되면_오프셋만큼_순위가_줄어든다() {
+            //given
+            registerMembers(MEMBER_SIZE);
+            queueWriter.allowUser(QUEUE).block();
+
+            //when
+            queueRanker.refreshOffsets().block();
+
+            //then
+            LongStream.rangeClosed(1, MEMBER_SIZE).forEach(memberId -> {
+                Long zRank = reactiveRedisTemplate.opsForZSet()
+                    .rank(USER_WAIT_QUEUE.formatted(QUEUE), String.valueOf(memberId))
+                    .map(rank -> rank + 1)
+                    .defaultIfEmpty(-1L)
+                    .block();
+                assertThat(queueWriter.getRank(QUEUE, memberId).block()).isEqualTo(zRank);
+            });
+        }
+
+        @Test
+        void 다른_노드에서_등록한_멤버의_순위도_조회한다() {
+            //given
+            registerMembers(MEMBER_SIZE);
+            QueueRanker otherNodeRanker = new QueueRanker(reactiveRedisTemplate);
+
+            //when-then
+            assertThat(otherNodeRanker.getRank(QUEUE, MEMBER_SIZE).block())
+                .isEqualTo(MEMBER_SIZE);
+        }
+    }
+
+    @Nested
+    class reclaim_입장_만료_테스트 {
+
+        private void expireAdmission(final String memberId) {
+            reactiveRedisTemplate.opsForZSet()
+                .add(USER_PROCEED_QUEUE.formatted(QUEUE), memberId, 0D)
+                .block();
+        }
+
+        @Test
+        void 만료된_입장_슬롯을_회수하고_다음_대기자를_입장시킨다() {
+            //given
+            registerMembers(MEMBER_SIZE);
+            List<String> firstAllowed = queueWriter.allowUser(QUEUE).block().allowed();
+            firstAllowed.subList(0, 3).forEach(this::expireAdmission);
+
+            //when
+            QueueAdmission admission = queueWriter.allowUser(QUEUE).block();
+
+            //then
+            assertThat(admission.reclaimed()).isEqualTo(3L);
+            assertThat(admission.allowed()).hasSize(3);
+            assertThat(queueWriter.isAllowedMember(QUEUE, Long.valueOf(firstAllowed.get(0)))
+                .block()).isFalse();
+        }
+
+        @Test
+        void 만료된_멤버는_입장한_멤버로_보지_않는다() {
+            //given
+            registerMembers(1L);
+            queueWriter.allowUser(QUEUE).block();
+            expireAdmission("1");
+
+            //when-then
+            assertThat(queueWriter.isAllowedMember(QUEUE, 1L).block()).isFalse();
+            assertThat(queueWriter.extendAdmission(QUEUE, 1L).block()).isFalse();
+        }
+
+        @Test
+        void 활동한_멤버는_입장_기한이_연장된다() {
+            //given
+            registerMembers(1L);
+            queueWriter.allowUser(QUEUE).block();
+            Double deadline = reactiveRedisTemplate.opsForZSet()
+                .score(USER_PROCEED_QUEUE.formatted(QUEUE), "1").block();
+
+            //when
+            Boolean extended = queueWriter.extendAdmission(QUEUE, 1L)
+                .delayElement(Duration.ofMillis(10))
+                .then(queueWriter.extendAdmission(QUEUE, 1L))
+                .block();
+
+            //then
+            assertThat(extended).isTrue();
+            assertThat(reactiveRedisTemplate.opsForZSet()
+                .score(USER_PROCEED_QUEUE.formatted(QUEUE), "1").block())
+                .isGreaterThan(deadline);
+        }
+    }
+}
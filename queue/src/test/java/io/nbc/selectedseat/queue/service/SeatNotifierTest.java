@@ -0,0 +1,160 @@
+package io.nbc.selectedseat.queue.service;
+
+import static io.nbc.selectedseat.queue.service.SeatNotifier.RESUBSCRIBE_DELAY;
+import static io.nbc.selectedseat.queue.service.SeatNotifier.SEATS_EVENT;
+import static io.nbc.selectedseat.util.seat.SeatChannel.SEAT_CHANNEL;
+import static io.nbc.selectedseat.util.seat.SeatChannel.SEAT_CHANNEL_PATTERN;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import io.nbc.selectedseat.domain.ticket.model.TicketRating;
+import io.nbc.selectedseat.queue.controller.dto.response.SeatChangeResponse;
+import io.nbc.selectedseat.queue.controller.dto.response.SeatChangesResponse;
+import io.nbc.selectedseat.queue.support.EmbeddedRedisSupport;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class SeatNotifierTest extends EmbeddedRedisSupport {
+
+    private SeatNotifier seatNotifier;
+
+    @BeforeEach
+    void init() {
+        seatNotifier = new SeatNotifier(reactiveRedisTemplate);
+        seatNotifier.listen().block();
+    }
+
+    @AfterEach
+    void stop() {
+        seatNotifier.stop();
+    }
+
+    @Nested
+    class start_좌석_변경_구독_시작_테스트 {
+
+        @Test
+        void 첫_구독이_실패하면_잠시_후_다시_구독한다() {
+            //given
+            ReactiveRedisTemplate<String, String> template = spy(reactiveRedisTemplate);
+            doReturn(Mono.error(new RedisConnectionFailureException("redis is not ready")))
+                .doCallRealMethod()
+                .when(template).listenToPatternLater(SEAT_CHANNEL_PATTERN);
+            SeatNotifier notifier = new SeatNotifier(template);
+
+            //when
+            notifier.start();
+
+            //then
+            verify(template, timeout(RESUBSCRIBE_DELAY.multipliedBy(3).toMillis()).times(2))
+                .listenToPatternLater(SEAT_CHANNEL_PATTERN);
+            notifier.stop();
+        }
+    }
+
+    @Nested
+    class coalesce_좌석_변경_병합_테스트 {
+
+        @Test
+        void 같은_좌석이_여러_번_바뀌면_마지막_상태만_남긴다() {
+            //given
+            List<String> changes = List.of("4:7:1", "5:2:1", "6:7:0");
+
+            //when
+            SeatChangesResponse response = SeatNotifier.coalesce(changes);
+
+            //then
+            assertThat(response.since()).isEqualTo(3L);
+            assertThat(response.version()).isEqualTo(6L);
+            assertThat(response.resync()).isFalse();
+            assertThat(response.changes()).containsExactly(
+                new SeatChangeResponse(2L, true),
+                new SeatChangeResponse(7L, false)
+            );
+        }
+
+        @Test
+        void 한_버전에_여러_좌석이_바뀌어도_연속이면_그대로_병합한다() {
+            //given
+            List<String> changes = List.of("4:7:1", "4:8:1", "5:2:1");
+
+            //when
+            SeatChangesResponse response = SeatNotifier.coalesce(changes);
+
+            //then
+            assertThat(response.resync()).isFalse();
+            assertThat(response.changes()).hasSize(3);
+        }
+
+        @Test
+        void 중간_버전이_빠지면_변경_대신_재동기화를_알린다() {
+            //given
+            List<String> changes = List.of("4:7:1", "6:2:1");
+
+            //when
+            SeatChangesResponse response = SeatNotifier.coalesce(changes);
+
+            //then
+            assertThat(response.resync()).isTrue();
+            assertThat(response.since()).isEqualTo(3L);
+            assertThat(response.version()).isEqualTo(6L);
+            assertThat(response.changes()).isEmpty();
+        }
+    }
+
+    @Nested
+    class subscribe_좌석_변경_구독_테스트 {
+
+        @Test
+        void 구간_안의_변경을_하나의_이벤트로_묶어_해당_좌석맵_구독자에게만_보낸다() {
+            //given
+            String channel = SEAT_CHANNEL.formatted(1L, 2L, "R");
+            String otherChannel = SEAT_CHANNEL.formatted(1L, 2L, "S");
+
+            //when-then
+            StepVerifier.create(seatNotifier.subscribe(1L, 2L, TicketRating.R))
+                .then(() -> {
+                    reactiveRedisTemplate.convertAndSend(otherChannel, "1:0:1").block();
+                    reactiveRedisTemplate.convertAndSend(channel, "1:3:1").block();
+                    reactiveRedisTemplate.convertAndSend(channel, "2:4:1").block();
+                })
+                .assertNext(event -> {
+                    assertThat(event.event()).isEqualTo(SEATS_EVENT);
+                    assertThat(event.data().since()).isEqualTo(0L);
+                    assertThat(event.data().version()).isEqualTo(2L);
+                    assertThat(event.data().changes()).containsExactly(
+                        new SeatChangeResponse(3L, true),
+                        new SeatChangeResponse(4L, true)
+                    );
+                })
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+        }
+
+        @Test
+        void 마지막_구독자가_끊기면_좌석맵_구독_정보를_지운다() {
+            //when
+            StepVerifier.create(seatNotifier.subscribe(1L, 2L, TicketRating.R))
+                .then(() -> assertThat(seatNotifier.listenerCount(1L, 2L, TicketRating.R))
+                    .isEqualTo(1))
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+
+            //then
+            assertThat(seatNotifier.listenerCount(1L, 2L, TicketRating.R)).isZero();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package io.nbc.selectedseat.queue.support;
+
+import java.io.IOException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import redis.embedded.RedisServer;
+
+public abstract class EmbeddedRedisSupport {
+
+    private static final int REDIS_PORT = 16379;
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    protected static ReactiveRedisTemplate<String, String> reactiveRedisTemplate;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        redisServer = new RedisServer(REDIS_PORT);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory("localhost", REDIS_PORT);
+        connectionFactory.afterPropertiesSet();
+        reactiveRedisTemplate = new ReactiveRedisTemplate<>(connectionFactory,
+            RedisSerializationContext.string());
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @AfterEach
+    void flushRedis() {
+        reactiveRedisTemplate.execute(connection -> connection.serverCommands().flushAll())
+            .blockLast();
+    }
+}
@@ -3,3 +3,18 @@ import {seat} from "@/api/index.js"
 export function getSeat(params) {
   return seat.get('', {params});
 }
+
+// 304 means nothing changed since the version passed in params.since
+export function getSeatChanges(params) {
+  return seat.get('', {params, validateStatus: status => status === 200 || status === 304});
+}
+
+export function getSeatLayout(params) {
+  return seat.get('/layout', {params});
+}
+
+export function subscribeSeats(params) {
+  const query = new URLSearchParams(params).toString();
+  return new EventSource(
+      `${import.meta.env.VITE_APP_WEBFLUX_API_URL}/seats/stream?${query}`);
+}
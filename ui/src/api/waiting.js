@@ -11,3 +11,9 @@ export function getRankForMember(params) {
 export function exitQueue(data) {
   return waiting.delete("/exit", {data})
 }
+
+export function subscribeRank(params) {
+  const query = new URLSearchParams(params).toString();
+  return new EventSource(
+      `${import.meta.env.VITE_APP_WEBFLUX_API_URL}/queue/stream?${query}`);
+}
@@ -0,0 +1,21 @@
+package io.nbc.selectedseat.web.config;
+
+import io.nbc.selectedseat.domain.queue.service.command.BackendHealthWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+@EnableScheduling
+@Configuration
+@RequiredArgsConstructor
+public class ScheduleConfiguration {
+
+    private final BackendHealthWriter backendHealthWriter;
+
+    // only the web tier serves reservations, so only it reports backend health
+    @Scheduled(fixedDelay = 1000)
+    public void publishBackendHealth() {
+        backendHealthWriter.publish();
+    }
+}
@@ -83,12 +83,24 @@ public class ReservationAdminController {
             .build());
     }
 
+    @Secured({"ROLE_USER", "ROLE_ADMIN"})
+    @PostMapping("/{reservationId}/hold")
+    public ResponseEntity<ResponseDTO<Boolean>> extendHold(
+        @PathVariable("reservationId") Long reservationId
+    ) {
+        return ResponseEntity.ok(ResponseDTO.<Boolean>builder()
+            .statusCode(HttpStatus.OK.value())
+            .message("좌석 선점 시간을 연장했습니다")
+            .data(reservationWriter.extendHold(reservationId))
+            .build());
+    }
+
     @Secured({"ROLE_USER", "ROLE_ADMIN"})
     @DeleteMapping("/{reservationId}")
     public ResponseEntity<ResponseDTO<Void>> deleteReservation(
         @PathVariable("reservationId") Long reservationId
     ){
-        reservationWriter.deleteReservation(reservationId);
+        reservationFacade.deleteReservation(reservationId);
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
 
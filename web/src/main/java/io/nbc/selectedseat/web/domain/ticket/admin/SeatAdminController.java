@@ -1,12 +1,16 @@
 package io.nbc.selectedseat.web.domain.ticket.admin;
 
+import io.nbc.selectedseat.domain.queue.service.command.AdmissionWriter;
 import io.nbc.selectedseat.domain.seat.dto.SeatInfo;
+import io.nbc.selectedseat.domain.seat.dto.SeatLayoutInfo;
 import io.nbc.selectedseat.domain.seat.query.SeatReader;
+import io.nbc.selectedseat.security.userdetail.UserDetailsImpl;
 import io.nbc.selectedseat.web.common.dto.ResponseDTO;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.annotation.Secured;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -18,16 +22,27 @@ import org.springframework.web.bind.annotation.RestController;
 public class SeatAdminController {
 
     private final SeatReader seatReader;
+    private final AdmissionWriter admissionWriter;
 
+    // with since, only the seats flipped after that version come back, or 304 if none did
     @Secured({"ROLE_USER", "ROLE_ADMIN"})
     @GetMapping
     public ResponseEntity<ResponseDTO<SeatInfo>> getSeats(
         @RequestParam("concert") Long concertId,
         @RequestParam("concertDate") Long concertDate,
-        @RequestParam("ticketRating") String rating
+        @RequestParam("ticketRating") String rating,
+        @RequestParam(value = "since", required = false) Long since,
+        @AuthenticationPrincipal UserDetailsImpl userDetails
     ){
-        SeatInfo seatInfo = seatReader.getTicketsByConcertAndRating(
-            concertId, concertDate, rating);
+        admissionWriter.extendAdmission(userDetails.getMemberId());
+
+        SeatInfo seatInfo = since == null
+            ? seatReader.getTicketsByConcertAndRating(concertId, concertDate, rating)
+            : seatReader.getTicketsByConcertAndRating(concertId, concertDate, rating, since);
+        if (seatInfo.isUnchanged()) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
         return ResponseEntity.ok(ResponseDTO.<SeatInfo>builder()
             .statusCode(HttpStatus.OK.value())
             .message("좌석이 조회되었습니다")
@@ -35,4 +50,23 @@ public class SeatAdminController {
             .build()
         );
     }
+
+    // the layout only changes when the warmup job runs, so clients fetch it once per rating
+    // and then poll just the seat bitmap
+    @Secured({"ROLE_USER", "ROLE_ADMIN"})
+    @GetMapping("/layout")
+    public ResponseEntity<ResponseDTO<SeatLayoutInfo>> getSeatLayout(
+        @RequestParam("concert") Long concertId,
+        @RequestParam("concertDate") Long concertDate,
+        @RequestParam("ticketRating") String rating
+    ){
+        SeatLayoutInfo seatLayoutInfo = seatReader.getSeatLayout(
+            concertId, concertDate, rating);
+        return ResponseEntity.ok(ResponseDTO.<SeatLayoutInfo>builder()
+            .statusCode(HttpStatus.OK.value())
+            .message("좌석 배치가 조회되었습니다")
+            .data(seatLayoutInfo)
+            .build()
+        );
+    }
 }
@@ -5,8 +5,10 @@ import io.nbc.selectedseat.domain.member.exception.MisMatchPasswordException;
 import io.nbc.selectedseat.domain.member.exception.NoSuchMemberException;
 import io.nbc.selectedseat.domain.member.exception.NotEnoughCoinException;
 import io.nbc.selectedseat.domain.member.exception.SamePasswordException;
+import io.nbc.selectedseat.domain.reservation.service.exception.ReservationPendingException;
 import io.nbc.selectedseat.domain.ticket.service.exception.ExistTicketPriceException;
 import io.nbc.selectedseat.web.common.dto.ResponseDTO;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -94,6 +96,21 @@ public class GlobalExceptionHandler {
         );
     }
 
+    // a write-behind reservation that is not inserted yet; the client retries the same request
+    @ExceptionHandler(ReservationPendingException.class)
+    public ResponseEntity<ResponseDTO<String>> handleReservationPendingException(
+        ReservationPendingException e
+    ) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED.value())
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .body(
+                ResponseDTO.<String>builder()
+                    .statusCode(HttpStatus.ACCEPTED.value())
+                    .message(e.getMessage())
+                    .build()
+            );
+    }
+
     private ResponseEntity<ResponseDTO<String>> createResponse(HttpStatus status, String message) {
         return ResponseEntity.status(status.value()).body(
             ResponseDTO.<String>builder()